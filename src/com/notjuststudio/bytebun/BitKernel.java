@@ -0,0 +1,643 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+final class BitKernel {
+
+    private final static int BYTE_MASK = 0xff;
+
+    private BitKernel() {}
+
+    // Values are laid out as a sequence of bytes in byte order, every byte is packed into the stream in bit order.
+    // So unaligned access is a single bit run of the value, byte swapped when both orders disagree.
+    private static boolean streamOrder(@NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        return (order == ByteOrder.BIG_ENDIAN) == (bitOrder == BitOrder.MSB_FIRST);
+    }
+
+    private static void storeShortBE(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final short value) {
+        bytes[index] = (byte)(value >> 8);
+        bytes[index + 1] = (byte)value;
+    }
+
+    private static void storeShortLE(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final short value) {
+        bytes[index] = (byte)value;
+        bytes[index + 1] = (byte)(value >> 8);
+    }
+
+    private static short loadShortBE(@NotNull final byte[] bytes, @NotNull final int index) {
+        return (short)((bytes[index] << 8) | (bytes[index + 1] & BYTE_MASK));
+    }
+
+    private static short loadShortLE(@NotNull final byte[] bytes, @NotNull final int index) {
+        return (short)((bytes[index] & BYTE_MASK) | (bytes[index + 1] << 8));
+    }
+
+    static void storeIntBE(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final int value) {
+        bytes[index] = (byte)(value >> 24);
+        bytes[index + 1] = (byte)(value >> 16);
+        bytes[index + 2] = (byte)(value >> 8);
+        bytes[index + 3] = (byte)value;
+    }
+
+    static void storeIntLE(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final int value) {
+        bytes[index] = (byte)value;
+        bytes[index + 1] = (byte)(value >> 8);
+        bytes[index + 2] = (byte)(value >> 16);
+        bytes[index + 3] = (byte)(value >> 24);
+    }
+
+    private static int loadIntBE(@NotNull final byte[] bytes, @NotNull final int index) {
+        return (bytes[index] << 24)
+                | ((bytes[index + 1] & BYTE_MASK) << 16)
+                | ((bytes[index + 2] & BYTE_MASK) << 8)
+                | (bytes[index + 3] & BYTE_MASK);
+    }
+
+    private static int loadIntLE(@NotNull final byte[] bytes, @NotNull final int index) {
+        return (bytes[index] & BYTE_MASK)
+                | ((bytes[index + 1] & BYTE_MASK) << 8)
+                | ((bytes[index + 2] & BYTE_MASK) << 16)
+                | (bytes[index + 3] << 24);
+    }
+
+    private static void storeLongBE(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final long value) {
+        storeIntBE(bytes, index, (int)(value >> 32));
+        storeIntBE(bytes, index + 4, (int)value);
+    }
+
+    private static void storeLongLE(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final long value) {
+        storeIntLE(bytes, index, (int)value);
+        storeIntLE(bytes, index + 4, (int)(value >> 32));
+    }
+
+    static long loadLongBE(@NotNull final byte[] bytes, @NotNull final int index) {
+        return ((long)loadIntBE(bytes, index) << 32) | (loadIntBE(bytes, index + 4) & 0xffffffffL);
+    }
+
+    static long loadLongLE(@NotNull final byte[] bytes, @NotNull final int index) {
+        return (loadIntLE(bytes, index) & 0xffffffffL) | ((long)loadIntLE(bytes, index + 4) << 32);
+    }
+
+    static void putBits(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final long value, @NotNull final int count, @NotNull final BitOrder bitOrder) {
+        int index = (int)(bitIndex >>> 3);
+        int offset = (int)(bitIndex & 7);
+        int remaining = count;
+
+        if (bitOrder == BitOrder.MSB_FIRST) {
+            while (remaining > 0) {
+                final int take = Math.min(8 - offset, remaining);
+                final int shift = 8 - offset - take;
+                remaining -= take;
+
+                final int mask = ((1 << take) - 1) << shift;
+                bytes[index] = (byte)((bytes[index] & ~mask) | (((int)(value >>> remaining) << shift) & mask));
+
+                index++;
+                offset = 0;
+            }
+        } else {
+            long tmpValue = value;
+            while (remaining > 0) {
+                final int take = Math.min(8 - offset, remaining);
+                remaining -= take;
+
+                final int mask = ((1 << take) - 1) << offset;
+                bytes[index] = (byte)((bytes[index] & ~mask) | (((int)tmpValue << offset) & mask));
+                tmpValue >>>= take;
+
+                index++;
+                offset = 0;
+            }
+        }
+    }
+
+    static long getBits(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final int count, @NotNull final BitOrder bitOrder) {
+        int index = (int)(bitIndex >>> 3);
+        int offset = (int)(bitIndex & 7);
+        int remaining = count;
+
+        long value = 0;
+
+        if (bitOrder == BitOrder.MSB_FIRST) {
+            while (remaining > 0) {
+                final int take = Math.min(8 - offset, remaining);
+                remaining -= take;
+
+                value = (value << take) | (((bytes[index] & BYTE_MASK) >>> (8 - offset - take)) & ((1 << take) - 1));
+
+                index++;
+                offset = 0;
+            }
+        } else {
+            int shift = 0;
+            while (remaining > 0) {
+                final int take = Math.min(8 - offset, remaining);
+                remaining -= take;
+
+                value |= (long)(((bytes[index] & BYTE_MASK) >>> offset) & ((1 << take) - 1)) << shift;
+                shift += take;
+
+                index++;
+                offset = 0;
+            }
+        }
+
+        return value;
+    }
+
+    // Byte run copy between two bit streams, each byte keeps its value and is packed in the bit order of its side.
+    static void copyBytes(@NotNull final byte[] src, @NotNull final long srcBitIndex, @NotNull final BitOrder srcBitOrder,
+                          @NotNull final byte[] dst, @NotNull final long dstBitIndex, @NotNull final BitOrder dstBitOrder, @NotNull final int length) {
+        if ((srcBitIndex & 7) == 0 && (dstBitIndex & 7) == 0) {
+            System.arraycopy(src, (int)(srcBitIndex >>> 3), dst, (int)(dstBitIndex >>> 3), length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                putByte(dst, dstBitIndex + (long)i * 8, getByte(src, srcBitIndex + (long)i * 8, srcBitOrder), dstBitOrder);
+            }
+        }
+    }
+
+    // Unaligned scalar kernels. The stream word is shifted by the bit offset across the 2, 3, 5 or 9 bytes it spans,
+    // the inner bytes are stored whole and only the two boundary bytes are merged with the bits around the value.
+    private static void putByteUnaligned(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final int offset,
+                                         @NotNull final int word, @NotNull final BitOrder bitOrder) {
+        if (bitOrder == BitOrder.MSB_FIRST) {
+            final int headMask = BYTE_MASK >>> offset;
+            bytes[index] = (byte)((bytes[index] & ~headMask) | (word >>> offset));
+            bytes[index + 1] = (byte)((bytes[index + 1] & headMask) | (word << (8 - offset)));
+        } else {
+            final int headMask = (1 << offset) - 1;
+            bytes[index] = (byte)((bytes[index] & headMask) | (word << offset));
+            bytes[index + 1] = (byte)((bytes[index + 1] & ~headMask) | (word >>> (8 - offset)));
+        }
+    }
+
+    private static int getByteUnaligned(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final int offset,
+                                        @NotNull final BitOrder bitOrder) {
+        if (bitOrder == BitOrder.MSB_FIRST)
+            return ((bytes[index] & BYTE_MASK) << offset) | ((bytes[index + 1] & BYTE_MASK) >>> (8 - offset));
+        else
+            return ((bytes[index] & BYTE_MASK) >>> offset) | ((bytes[index + 1] & BYTE_MASK) << (8 - offset));
+    }
+
+    private static void putShortUnaligned(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final int offset,
+                                          @NotNull final int word, @NotNull final BitOrder bitOrder) {
+        if (bitOrder == BitOrder.MSB_FIRST) {
+            final int headMask = BYTE_MASK >>> offset;
+            storeShortBE(bytes, index, (short)(((bytes[index] & ~headMask & BYTE_MASK) << 8) | (word >>> offset)));
+            bytes[index + 2] = (byte)((bytes[index + 2] & headMask) | (word << (8 - offset)));
+        } else {
+            final int headMask = (1 << offset) - 1;
+            storeShortLE(bytes, index, (short)((bytes[index] & headMask) | (word << offset)));
+            bytes[index + 2] = (byte)((bytes[index + 2] & ~headMask) | (word >>> (16 - offset)));
+        }
+    }
+
+    private static short getShortUnaligned(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final int offset,
+                                           @NotNull final BitOrder bitOrder) {
+        if (bitOrder == BitOrder.MSB_FIRST)
+            return (short)(((loadShortBE(bytes, index) & 0xffff) << offset) | ((bytes[index + 2] & BYTE_MASK) >>> (8 - offset)));
+        else
+            return (short)(((loadShortLE(bytes, index) & 0xffff) >>> offset) | ((bytes[index + 2] & BYTE_MASK) << (16 - offset)));
+    }
+
+    private static void putIntUnaligned(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final int offset,
+                                        @NotNull final int word, @NotNull final BitOrder bitOrder) {
+        if (bitOrder == BitOrder.MSB_FIRST) {
+            final int headMask = BYTE_MASK >>> offset;
+            storeIntBE(bytes, index, ((bytes[index] & ~headMask & BYTE_MASK) << 24) | (word >>> offset));
+            bytes[index + 4] = (byte)((bytes[index + 4] & headMask) | (word << (8 - offset)));
+        } else {
+            final int headMask = (1 << offset) - 1;
+            storeIntLE(bytes, index, (bytes[index] & headMask) | (word << offset));
+            bytes[index + 4] = (byte)((bytes[index + 4] & ~headMask) | ((word >>> (32 - offset)) & headMask));
+        }
+    }
+
+    private static int getIntUnaligned(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final int offset,
+                                       @NotNull final BitOrder bitOrder) {
+        if (bitOrder == BitOrder.MSB_FIRST)
+            return (loadIntBE(bytes, index) << offset) | ((bytes[index + 4] & BYTE_MASK) >>> (8 - offset));
+        else
+            return (loadIntLE(bytes, index) >>> offset) | ((bytes[index + 4] & BYTE_MASK) << (32 - offset));
+    }
+
+    private static void putLongUnaligned(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final int offset,
+                                         @NotNull final long word, @NotNull final BitOrder bitOrder) {
+        if (bitOrder == BitOrder.MSB_FIRST) {
+            final int headMask = BYTE_MASK >>> offset;
+            storeLongBE(bytes, index, ((long)(bytes[index] & ~headMask & BYTE_MASK) << 56) | (word >>> offset));
+            bytes[index + 8] = (byte)((bytes[index + 8] & headMask) | ((int)word << (8 - offset)));
+        } else {
+            final int headMask = (1 << offset) - 1;
+            storeLongLE(bytes, index, (bytes[index] & headMask) | (word << offset));
+            bytes[index + 8] = (byte)((bytes[index + 8] & ~headMask) | ((int)(word >>> (64 - offset)) & headMask));
+        }
+    }
+
+    private static long getLongUnaligned(@NotNull final byte[] bytes, @NotNull final int index, @NotNull final int offset,
+                                         @NotNull final BitOrder bitOrder) {
+        if (bitOrder == BitOrder.MSB_FIRST)
+            return (loadLongBE(bytes, index) << offset) | ((bytes[index + 8] & BYTE_MASK) >>> (8 - offset));
+        else
+            return (loadLongLE(bytes, index) >>> offset) | ((long)(bytes[index + 8] & BYTE_MASK) << (64 - offset));
+    }
+
+    static void putBoolean(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final boolean value, @NotNull final BitOrder bitOrder) {
+        final int index = (int)(bitIndex >>> 3);
+        final int offset = (int)(bitIndex & 7);
+
+        final byte byteValue = (byte)(bitOrder == BitOrder.MSB_FIRST ? 1 << (7 - offset) : 1 << offset);
+        bytes[index] &= ~byteValue;
+        if (value)
+            bytes[index] |= byteValue;
+    }
+
+    static boolean getBoolean(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final BitOrder bitOrder) {
+        final int index = (int)(bitIndex >>> 3);
+        final int offset = (int)(bitIndex & 7);
+
+        final int shift = bitOrder == BitOrder.MSB_FIRST ? 7 - offset : offset;
+        return (((bytes[index] & BYTE_MASK) >> shift) & 1) == 1;
+    }
+
+    static void putByte(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final byte value, @NotNull final BitOrder bitOrder) {
+        if ((bitIndex & 7) == 0) {
+            bytes[(int)(bitIndex >>> 3)] = value;
+        } else {
+            putByteUnaligned(bytes, (int)(bitIndex >>> 3), (int)(bitIndex & 7), value & BYTE_MASK, bitOrder);
+        }
+    }
+
+    static byte getByte(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final BitOrder bitOrder) {
+        if ((bitIndex & 7) == 0) {
+            return bytes[(int)(bitIndex >>> 3)];
+        } else {
+            return (byte)getByteUnaligned(bytes, (int)(bitIndex >>> 3), (int)(bitIndex & 7), bitOrder);
+        }
+    }
+
+    static void putShort(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final short value, @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if ((bitIndex & 7) == 0) {
+            if (order == ByteOrder.BIG_ENDIAN)
+                storeShortBE(bytes, (int)(bitIndex >>> 3), value);
+            else
+                storeShortLE(bytes, (int)(bitIndex >>> 3), value);
+        } else {
+            final short streamValue = streamOrder(order, bitOrder) ? value : Short.reverseBytes(value);
+            putShortUnaligned(bytes, (int)(bitIndex >>> 3), (int)(bitIndex & 7), streamValue & 0xffff, bitOrder);
+        }
+    }
+
+    static short getShort(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if ((bitIndex & 7) == 0) {
+            if (order == ByteOrder.BIG_ENDIAN)
+                return loadShortBE(bytes, (int)(bitIndex >>> 3));
+            else
+                return loadShortLE(bytes, (int)(bitIndex >>> 3));
+        } else {
+            final short streamValue = getShortUnaligned(bytes, (int)(bitIndex >>> 3), (int)(bitIndex & 7), bitOrder);
+            return streamOrder(order, bitOrder) ? streamValue : Short.reverseBytes(streamValue);
+        }
+    }
+
+    static void putInt(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final int value, @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if ((bitIndex & 7) == 0) {
+            if (order == ByteOrder.BIG_ENDIAN)
+                storeIntBE(bytes, (int)(bitIndex >>> 3), value);
+            else
+                storeIntLE(bytes, (int)(bitIndex >>> 3), value);
+        } else {
+            final int streamValue = streamOrder(order, bitOrder) ? value : Integer.reverseBytes(value);
+            putIntUnaligned(bytes, (int)(bitIndex >>> 3), (int)(bitIndex & 7), streamValue, bitOrder);
+        }
+    }
+
+    static int getInt(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if ((bitIndex & 7) == 0) {
+            if (order == ByteOrder.BIG_ENDIAN)
+                return loadIntBE(bytes, (int)(bitIndex >>> 3));
+            else
+                return loadIntLE(bytes, (int)(bitIndex >>> 3));
+        } else {
+            final int streamValue = getIntUnaligned(bytes, (int)(bitIndex >>> 3), (int)(bitIndex & 7), bitOrder);
+            return streamOrder(order, bitOrder) ? streamValue : Integer.reverseBytes(streamValue);
+        }
+    }
+
+    static void putLong(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final long value, @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if ((bitIndex & 7) == 0) {
+            if (order == ByteOrder.BIG_ENDIAN)
+                storeLongBE(bytes, (int)(bitIndex >>> 3), value);
+            else
+                storeLongLE(bytes, (int)(bitIndex >>> 3), value);
+        } else {
+            putLongUnaligned(bytes, (int)(bitIndex >>> 3), (int)(bitIndex & 7), streamOrder(order, bitOrder) ? value : Long.reverseBytes(value), bitOrder);
+        }
+    }
+
+    static long getLong(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if ((bitIndex & 7) == 0) {
+            if (order == ByteOrder.BIG_ENDIAN)
+                return loadLongBE(bytes, (int)(bitIndex >>> 3));
+            else
+                return loadLongLE(bytes, (int)(bitIndex >>> 3));
+        } else {
+            final long streamValue = getLongUnaligned(bytes, (int)(bitIndex >>> 3), (int)(bitIndex & 7), bitOrder);
+            return streamOrder(order, bitOrder) ? streamValue : Long.reverseBytes(streamValue);
+        }
+    }
+
+    // Bulk kernels. Aligned runs go through a ByteBuffer view in the byte order, which the JDK fills with whole word
+    // accesses where the platform allows it. Unaligned runs shift every stream word by the bit offset and
+    // carry the spilled bits into the next word, so only the two boundary bytes are read back.
+
+    static void putShorts(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final short[] src, @NotNull final int pos, @NotNull final int length,
+                          @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if (length == 0)
+            return;
+
+        final boolean swap = !streamOrder(order, bitOrder);
+        final int offset = (int)(bitIndex & 7);
+        int index = (int)(bitIndex >>> 3);
+
+        if (offset == 0) {
+            ByteBuffer.wrap(bytes, index, length * 2).order(order).asShortBuffer().put(src, pos, length);
+        } else if (bitOrder == BitOrder.MSB_FIRST) {
+            int carry = (bytes[index] & BYTE_MASK) >>> (8 - offset);
+            for (int i = 0; i < length; i++) {
+                final short value = src[pos + i];
+                final int word = (swap ? Short.reverseBytes(value) : value) & 0xffff;
+                storeShortBE(bytes, index, (short)((carry << (16 - offset)) | (word >>> offset)));
+                carry = word & ((1 << offset) - 1);
+                index += 2;
+            }
+            bytes[index] = (byte)((carry << (8 - offset)) | (bytes[index] & ((1 << (8 - offset)) - 1)));
+        } else {
+            int carry = bytes[index] & ((1 << offset) - 1);
+            for (int i = 0; i < length; i++) {
+                final short value = src[pos + i];
+                final int word = (swap ? Short.reverseBytes(value) : value) & 0xffff;
+                storeShortLE(bytes, index, (short)(carry | (word << offset)));
+                carry = word >>> (16 - offset);
+                index += 2;
+            }
+            bytes[index] = (byte)(carry | (bytes[index] & ~((1 << offset) - 1)));
+        }
+    }
+
+    static void getShorts(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final short[] dst, @NotNull final int pos, @NotNull final int length,
+                          @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        final boolean swap = !streamOrder(order, bitOrder);
+        final int offset = (int)(bitIndex & 7);
+        int index = (int)(bitIndex >>> 3);
+
+        if (offset == 0) {
+            ByteBuffer.wrap(bytes, index, length * 2).order(order).asShortBuffer().get(dst, pos, length);
+        } else if (bitOrder == BitOrder.MSB_FIRST) {
+            for (int i = 0; i < length; i++) {
+                final short word = (short)(((loadShortBE(bytes, index) & 0xffff) << offset) | ((bytes[index + 2] & BYTE_MASK) >>> (8 - offset)));
+                dst[pos + i] = swap ? Short.reverseBytes(word) : word;
+                index += 2;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                final short word = (short)(((loadShortLE(bytes, index) & 0xffff) >>> offset) | ((bytes[index + 2] & BYTE_MASK) << (16 - offset)));
+                dst[pos + i] = swap ? Short.reverseBytes(word) : word;
+                index += 2;
+            }
+        }
+    }
+
+    static void putInts(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final int[] src, @NotNull final int pos, @NotNull final int length,
+                          @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if (length == 0)
+            return;
+
+        final boolean swap = !streamOrder(order, bitOrder);
+        final int offset = (int)(bitIndex & 7);
+        int index = (int)(bitIndex >>> 3);
+
+        if (offset == 0) {
+            ByteBuffer.wrap(bytes, index, length * 4).order(order).asIntBuffer().put(src, pos, length);
+        } else if (bitOrder == BitOrder.MSB_FIRST) {
+            int carry = (bytes[index] & BYTE_MASK) >>> (8 - offset);
+            for (int i = 0; i < length; i++) {
+                final int value = src[pos + i];
+                final int word = swap ? Integer.reverseBytes(value) : value;
+                storeIntBE(bytes, index, (carry << (32 - offset)) | (word >>> offset));
+                carry = word & ((1 << offset) - 1);
+                index += 4;
+            }
+            bytes[index] = (byte)((carry << (8 - offset)) | (bytes[index] & ((1 << (8 - offset)) - 1)));
+        } else {
+            int carry = bytes[index] & ((1 << offset) - 1);
+            for (int i = 0; i < length; i++) {
+                final int value = src[pos + i];
+                final int word = swap ? Integer.reverseBytes(value) : value;
+                storeIntLE(bytes, index, carry | (word << offset));
+                carry = word >>> (32 - offset);
+                index += 4;
+            }
+            bytes[index] = (byte)(carry | (bytes[index] & ~((1 << offset) - 1)));
+        }
+    }
+
+    static void getInts(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final int[] dst, @NotNull final int pos, @NotNull final int length,
+                          @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        final boolean swap = !streamOrder(order, bitOrder);
+        final int offset = (int)(bitIndex & 7);
+        int index = (int)(bitIndex >>> 3);
+
+        if (offset == 0) {
+            ByteBuffer.wrap(bytes, index, length * 4).order(order).asIntBuffer().get(dst, pos, length);
+        } else if (bitOrder == BitOrder.MSB_FIRST) {
+            for (int i = 0; i < length; i++) {
+                final int word = (loadIntBE(bytes, index) << offset) | ((bytes[index + 4] & BYTE_MASK) >>> (8 - offset));
+                dst[pos + i] = swap ? Integer.reverseBytes(word) : word;
+                index += 4;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                final int word = (loadIntLE(bytes, index) >>> offset) | ((bytes[index + 4] & BYTE_MASK) << (32 - offset));
+                dst[pos + i] = swap ? Integer.reverseBytes(word) : word;
+                index += 4;
+            }
+        }
+    }
+
+    static void putFloats(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final float[] src, @NotNull final int pos, @NotNull final int length,
+                          @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if (length == 0)
+            return;
+
+        final boolean swap = !streamOrder(order, bitOrder);
+        final int offset = (int)(bitIndex & 7);
+        int index = (int)(bitIndex >>> 3);
+
+        if (offset == 0) {
+            ByteBuffer.wrap(bytes, index, length * 4).order(order).asFloatBuffer().put(src, pos, length);
+        } else if (bitOrder == BitOrder.MSB_FIRST) {
+            int carry = (bytes[index] & BYTE_MASK) >>> (8 - offset);
+            for (int i = 0; i < length; i++) {
+                final int value = Float.floatToRawIntBits(src[pos + i]);
+                final int word = swap ? Integer.reverseBytes(value) : value;
+                storeIntBE(bytes, index, (carry << (32 - offset)) | (word >>> offset));
+                carry = word & ((1 << offset) - 1);
+                index += 4;
+            }
+            bytes[index] = (byte)((carry << (8 - offset)) | (bytes[index] & ((1 << (8 - offset)) - 1)));
+        } else {
+            int carry = bytes[index] & ((1 << offset) - 1);
+            for (int i = 0; i < length; i++) {
+                final int value = Float.floatToRawIntBits(src[pos + i]);
+                final int word = swap ? Integer.reverseBytes(value) : value;
+                storeIntLE(bytes, index, carry | (word << offset));
+                carry = word >>> (32 - offset);
+                index += 4;
+            }
+            bytes[index] = (byte)(carry | (bytes[index] & ~((1 << offset) - 1)));
+        }
+    }
+
+    static void getFloats(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final float[] dst, @NotNull final int pos, @NotNull final int length,
+                          @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        final boolean swap = !streamOrder(order, bitOrder);
+        final int offset = (int)(bitIndex & 7);
+        int index = (int)(bitIndex >>> 3);
+
+        if (offset == 0) {
+            ByteBuffer.wrap(bytes, index, length * 4).order(order).asFloatBuffer().get(dst, pos, length);
+        } else if (bitOrder == BitOrder.MSB_FIRST) {
+            for (int i = 0; i < length; i++) {
+                final int word = (loadIntBE(bytes, index) << offset) | ((bytes[index + 4] & BYTE_MASK) >>> (8 - offset));
+                dst[pos + i] = Float.intBitsToFloat(swap ? Integer.reverseBytes(word) : word);
+                index += 4;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                final int word = (loadIntLE(bytes, index) >>> offset) | ((bytes[index + 4] & BYTE_MASK) << (32 - offset));
+                dst[pos + i] = Float.intBitsToFloat(swap ? Integer.reverseBytes(word) : word);
+                index += 4;
+            }
+        }
+    }
+
+    static void putLongs(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final long[] src, @NotNull final int pos, @NotNull final int length,
+                          @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if (length == 0)
+            return;
+
+        final boolean swap = !streamOrder(order, bitOrder);
+        final int offset = (int)(bitIndex & 7);
+        int index = (int)(bitIndex >>> 3);
+
+        if (offset == 0) {
+            ByteBuffer.wrap(bytes, index, length * 8).order(order).asLongBuffer().put(src, pos, length);
+        } else if (bitOrder == BitOrder.MSB_FIRST) {
+            int carry = (bytes[index] & BYTE_MASK) >>> (8 - offset);
+            for (int i = 0; i < length; i++) {
+                final long value = src[pos + i];
+                final long word = swap ? Long.reverseBytes(value) : value;
+                storeLongBE(bytes, index, ((long)carry << (64 - offset)) | (word >>> offset));
+                carry = (int)(word & ((1 << offset) - 1));
+                index += 8;
+            }
+            bytes[index] = (byte)((carry << (8 - offset)) | (bytes[index] & ((1 << (8 - offset)) - 1)));
+        } else {
+            int carry = bytes[index] & ((1 << offset) - 1);
+            for (int i = 0; i < length; i++) {
+                final long value = src[pos + i];
+                final long word = swap ? Long.reverseBytes(value) : value;
+                storeLongLE(bytes, index, carry | (word << offset));
+                carry = (int)(word >>> (64 - offset));
+                index += 8;
+            }
+            bytes[index] = (byte)(carry | (bytes[index] & ~((1 << offset) - 1)));
+        }
+    }
+
+    static void getLongs(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final long[] dst, @NotNull final int pos, @NotNull final int length,
+                          @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        final boolean swap = !streamOrder(order, bitOrder);
+        final int offset = (int)(bitIndex & 7);
+        int index = (int)(bitIndex >>> 3);
+
+        if (offset == 0) {
+            ByteBuffer.wrap(bytes, index, length * 8).order(order).asLongBuffer().get(dst, pos, length);
+        } else if (bitOrder == BitOrder.MSB_FIRST) {
+            for (int i = 0; i < length; i++) {
+                final long word = (loadLongBE(bytes, index) << offset) | ((bytes[index + 8] & BYTE_MASK) >>> (8 - offset));
+                dst[pos + i] = swap ? Long.reverseBytes(word) : word;
+                index += 8;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                final long word = (loadLongLE(bytes, index) >>> offset) | ((long)(bytes[index + 8] & BYTE_MASK) << (64 - offset));
+                dst[pos + i] = swap ? Long.reverseBytes(word) : word;
+                index += 8;
+            }
+        }
+    }
+
+    static void putDoubles(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final double[] src, @NotNull final int pos, @NotNull final int length,
+                          @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        if (length == 0)
+            return;
+
+        final boolean swap = !streamOrder(order, bitOrder);
+        final int offset = (int)(bitIndex & 7);
+        int index = (int)(bitIndex >>> 3);
+
+        if (offset == 0) {
+            ByteBuffer.wrap(bytes, index, length * 8).order(order).asDoubleBuffer().put(src, pos, length);
+        } else if (bitOrder == BitOrder.MSB_FIRST) {
+            int carry = (bytes[index] & BYTE_MASK) >>> (8 - offset);
+            for (int i = 0; i < length; i++) {
+                final long value = Double.doubleToRawLongBits(src[pos + i]);
+                final long word = swap ? Long.reverseBytes(value) : value;
+                storeLongBE(bytes, index, ((long)carry << (64 - offset)) | (word >>> offset));
+                carry = (int)(word & ((1 << offset) - 1));
+                index += 8;
+            }
+            bytes[index] = (byte)((carry << (8 - offset)) | (bytes[index] & ((1 << (8 - offset)) - 1)));
+        } else {
+            int carry = bytes[index] & ((1 << offset) - 1);
+            for (int i = 0; i < length; i++) {
+                final long value = Double.doubleToRawLongBits(src[pos + i]);
+                final long word = swap ? Long.reverseBytes(value) : value;
+                storeLongLE(bytes, index, carry | (word << offset));
+                carry = (int)(word >>> (64 - offset));
+                index += 8;
+            }
+            bytes[index] = (byte)(carry | (bytes[index] & ~((1 << offset) - 1)));
+        }
+    }
+
+    static void getDoubles(@NotNull final byte[] bytes, @NotNull final long bitIndex, @NotNull final double[] dst, @NotNull final int pos, @NotNull final int length,
+                          @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        final boolean swap = !streamOrder(order, bitOrder);
+        final int offset = (int)(bitIndex & 7);
+        int index = (int)(bitIndex >>> 3);
+
+        if (offset == 0) {
+            ByteBuffer.wrap(bytes, index, length * 8).order(order).asDoubleBuffer().get(dst, pos, length);
+        } else if (bitOrder == BitOrder.MSB_FIRST) {
+            for (int i = 0; i < length; i++) {
+                final long word = (loadLongBE(bytes, index) << offset) | ((bytes[index + 8] & BYTE_MASK) >>> (8 - offset));
+                dst[pos + i] = Double.longBitsToDouble(swap ? Long.reverseBytes(word) : word);
+                index += 8;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                final long word = (loadLongLE(bytes, index) >>> offset) | ((long)(bytes[index + 8] & BYTE_MASK) << (64 - offset));
+                dst[pos + i] = Double.longBitsToDouble(swap ? Long.reverseBytes(word) : word);
+                index += 8;
+            }
+        }
+    }
+
+}
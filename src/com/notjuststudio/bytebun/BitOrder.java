@@ -0,0 +1,8 @@
+package com.notjuststudio.bytebun;
+
+public enum BitOrder {
+
+    MSB_FIRST,
+    LSB_FIRST
+
+}
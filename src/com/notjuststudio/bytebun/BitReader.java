@@ -0,0 +1,145 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+// Sequential reader with a 64-bit register. Bits [position, position + count) of the stream are kept in acc,
+// top aligned for MSB_FIRST and bottom aligned for LSB_FIRST. Refill ors a whole word over the register and keeps
+// 56..63 bits, bits past count are the true continuation of the stream, so the next refill ors the same values.
+// The buffer reader position is updated only by sync() or close().
+public final class BitReader implements AutoCloseable {
+
+    public final static int MAX_PEEK_BITS = 56;
+
+    private final ByteBun buffer;
+    private final byte[] bytes;
+    private final boolean msbFirst;
+    private final long limit;
+
+    private long position;
+    private int byteIndex;
+    private long acc = 0;
+    private int count = 0;
+
+    private BitReader(@NotNull final ByteBun buffer) {
+        this.buffer = buffer;
+        this.bytes = buffer.array();
+        this.msbFirst = buffer.bitOrder() == BitOrder.MSB_FIRST;
+        this.limit = (long)buffer.writerIndex() * 8 + buffer.writerBitOffset();
+        seek((long)buffer.readerIndex() * 8 + buffer.readerBitOffset());
+    }
+
+    private void seek(@NotNull final long target) {
+        byteIndex = (int)(target >>> 3);
+        position = (long)byteIndex * 8;
+        acc = 0;
+        count = 0;
+        refill();
+        consume((int)(target & 7));
+    }
+
+    private void refill() {
+        if (byteIndex + 8 <= bytes.length) {
+            if (msbFirst)
+                acc |= BitKernel.loadLongBE(bytes, byteIndex) >>> count;
+            else
+                acc |= BitKernel.loadLongLE(bytes, byteIndex) << count;
+            byteIndex += (63 - count) >>> 3;
+            count |= 56;
+        } else {
+            while (count <= 56 && byteIndex < bytes.length) {
+                if (msbFirst)
+                    acc |= (long)(bytes[byteIndex++] & 0xff) << (56 - count);
+                else
+                    acc |= (long)(bytes[byteIndex++] & 0xff) << count;
+                count += 8;
+            }
+        }
+    }
+
+    private void consume(@NotNull final int bits) {
+        if (msbFirst)
+            acc <<= bits;
+        else
+            acc >>>= bits;
+        count -= bits;
+        position += bits;
+    }
+
+    private void checkLimit(@NotNull final long bits) {
+        if (position + bits > limit)
+            throw new IndexOutOfBoundsException("Reader position higher than writer position: " + position + " + " + bits + " > " + limit);
+    }
+
+    private static void checkPeek(@NotNull final int bits) {
+        if (bits < 0 || bits > MAX_PEEK_BITS)
+            throw new IllegalArgumentException("Bit count must be in range [0, " + MAX_PEEK_BITS + "]: " + bits);
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public long availableBits() {
+        return limit - position;
+    }
+
+    // Bits past the end of the written data are returned as they are in the array, usually zeros.
+    public long peekBits(@NotNull final int bits) {
+        checkPeek(bits);
+        if (count < bits)
+            refill();
+        if (msbFirst)
+            return (acc >>> 1) >>> (63 - bits);
+        else
+            return acc & ((1L << bits) - 1);
+    }
+
+    public BitReader skipBits(@NotNull final long bits) {
+        if (bits < 0)
+            throw new IllegalArgumentException("Bit count must be more or equal than zero: " + bits);
+        checkLimit(bits);
+        if (bits <= count)
+            consume((int)bits);
+        else
+            seek(position + bits);
+        return this;
+    }
+
+    private long take(@NotNull final int bits) {
+        if (count < bits)
+            refill();
+        final long value = msbFirst ? (acc >>> 1) >>> (63 - bits) : acc & ((1L << bits) - 1);
+        consume(bits);
+        return value;
+    }
+
+    public long readBits(@NotNull final int bits) {
+        checkLimit(bits);
+        if (bits >= 0 && bits <= MAX_PEEK_BITS)
+            return take(bits);
+        if (bits < 0 || bits > 64)
+            throw new IllegalArgumentException("Bit count must be in range [0, 64]: " + bits);
+        final long first = take(32);
+        final long second = take(bits - 32);
+        return msbFirst ? (first << (bits - 32)) | second : first | (second << 32);
+    }
+
+    public boolean readBoolean() {
+        return readBits(1) == 1;
+    }
+
+    public BitReader sync() {
+        buffer.readerPosition(position);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        sync();
+    }
+
+    public static BitReader create(@NotNull final ByteBun buffer) {
+        return new BitReader(buffer);
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+// Sequential writer with a 64-bit register. Pending bits are kept in acc, top aligned for MSB_FIRST and
+// bottom aligned for LSB_FIRST, and stored 32 bits at a time once the register is full.
+// Pending bits reach the buffer and the writer position is updated only by flush() or close().
+public final class BitWriter implements AutoCloseable {
+
+    private final ByteBun buffer;
+    private final byte[] bytes;
+    private final boolean msbFirst;
+    private final long limit;
+
+    private long position;
+    private int byteIndex;
+    private long acc = 0;
+    private int count = 0;
+
+    private BitWriter(@NotNull final ByteBun buffer) {
+        this.buffer = buffer;
+        this.bytes = buffer.array();
+        this.msbFirst = buffer.bitOrder() == BitOrder.MSB_FIRST;
+        this.limit = (long)bytes.length * 8;
+
+        final int offset = buffer.writerBitOffset();
+        byteIndex = buffer.writerIndex();
+        position = (long)byteIndex * 8 + offset;
+        if (offset != 0) {
+            if (msbFirst)
+                acc = (long)(bytes[byteIndex] & (0xff << (8 - offset)) & 0xff) << 56;
+            else
+                acc = bytes[byteIndex] & ((1 << offset) - 1);
+            count = offset;
+        }
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public long availableBits() {
+        return limit - position;
+    }
+
+    private void put(@NotNull final long value, @NotNull final int bits) {
+        if (count + bits > 64) {
+            if (msbFirst) {
+                BitKernel.storeIntBE(bytes, byteIndex, (int)(acc >>> 32));
+                acc <<= 32;
+            } else {
+                BitKernel.storeIntLE(bytes, byteIndex, (int)acc);
+                acc >>>= 32;
+            }
+            byteIndex += 4;
+            count -= 32;
+        }
+        if (msbFirst)
+            acc |= value << (64 - count - bits);
+        else
+            acc |= value << count;
+        count += bits;
+    }
+
+    public BitWriter writeBits(@NotNull final long value, @NotNull final int bits) {
+        if (bits < 0 || bits > 64)
+            throw new IllegalArgumentException("Bit count must be in range [0, 64]: " + bits);
+        if (position + bits > limit)
+            throw new IndexOutOfBoundsException("Writer position out of capacity: " + position + " + " + bits + " > " + limit);
+        if (bits == 0)
+            return this;
+
+        if (bits <= 32) {
+            put(value & (-1L >>> (64 - bits)), bits);
+        } else {
+            final long high = (value & (-1L >>> (64 - bits))) >>> 32;
+            final long low = value & 0xffffffffL;
+            if (msbFirst) {
+                put(high, bits - 32);
+                put(low, 32);
+            } else {
+                put(low, 32);
+                put(high, bits - 32);
+            }
+        }
+        position += bits;
+        return this;
+    }
+
+    public BitWriter writeBoolean(@NotNull final boolean value) {
+        return writeBits(value ? 1 : 0, 1);
+    }
+
+    // Stores every pending bit, the partial last byte stays in the register and is stored again by later flushes.
+    public BitWriter flush() {
+        int index = byteIndex;
+        long tmpAcc = acc;
+        int tmpCount = count;
+        while (tmpCount >= 8) {
+            if (msbFirst) {
+                bytes[index++] = (byte)(tmpAcc >>> 56);
+                tmpAcc <<= 8;
+            } else {
+                bytes[index++] = (byte)tmpAcc;
+                tmpAcc >>>= 8;
+            }
+            tmpCount -= 8;
+        }
+        if (tmpCount != 0) {
+            final int mask = msbFirst ? (0xff << (8 - tmpCount)) & 0xff : (1 << tmpCount) - 1;
+            final int value = msbFirst ? (int)(tmpAcc >>> 56) : (int)tmpAcc;
+            bytes[index] = (byte)((value & mask) | (bytes[index] & ~mask));
+        }
+
+        byteIndex = index;
+        acc = tmpAcc;
+        count = tmpCount;
+
+        buffer.writerPosition(position);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    public static BitWriter create(@NotNull final ByteBun buffer) {
+        return new BitWriter(buffer);
+    }
+
+}
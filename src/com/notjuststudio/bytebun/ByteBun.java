@@ -1,14 +1,13 @@
 package com.notjuststudio.bytebun;
 
+import com.notjuststudio.bytebun.ByteBunMetrics.Operation;
 import com.sun.istack.internal.NotNull;
 
-import java.lang.reflect.Array;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 
 public class ByteBun {
 
-    private final static int BYTE_MASK = 0xff;
-
     private byte[] bytes;
 
     private int readerIndex = 0;
@@ -17,10 +16,22 @@ public class ByteBun {
     private int writerIndex = 0;
     private byte writerBitOffset = 0;
 
+    private int markedReaderIndex = 0;
+    private byte markedReaderBitOffset = 0;
+
+    private int markedWriterIndex = 0;
+    private byte markedWriterBitOffset = 0;
+
+    private ByteOrder order = ByteOrder.BIG_ENDIAN;
+    private BitOrder bitOrder = BitOrder.MSB_FIRST;
+
     private ByteBun(@NotNull final int capacity) {
         bytes = new byte[capacity];
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.allocate(capacity);
     }
 
+    // Shares the given storage, so nothing is counted as allocated.
     private ByteBun(@NotNull final byte[] bytes) {
         this.bytes = bytes;
     }
@@ -29,8 +40,14 @@ public class ByteBun {
         return bytes.length;
     }
 
+    byte[] array() {
+        return bytes;
+    }
+
     public ByteBun capacity(@NotNull final int capacity) {
         if (capacity != bytes.length) {
+            if (ByteBunMetrics.ENABLED)
+                ByteBunMetrics.resize(bytes.length, capacity);
             final byte[] tmp = new byte[capacity];
             System.arraycopy(bytes, 0, tmp, 0, capacity > bytes.length ? bytes.length : capacity);
             bytes = tmp;
@@ -68,15 +85,58 @@ public class ByteBun {
         throw new IndexOutOfBoundsException("Reader index higher than writer index: " + index + "." + offset + " > " + writerIndex + "." + writerBitOffset);
     }
 
-    private static void checkArray(@NotNull final Object array, @NotNull final int pos, @NotNull final int length) {
-        final int arrayLength = Array.getLength(array);
-        if (pos + length > arrayLength)
-            throw new IndexOutOfBoundsException("pos + length > array.length: " + pos + " + " + length + " > " + arrayLength);
+    // Position checks in bits, so that huge cursor requests can not wrap the int byte index.
+    private void checkWriterPosition(@NotNull final long position) {
+        if (position < 0 || position > (long)bytes.length * 8)
+            throw new IndexOutOfBoundsException("Writer position out of capacity: " + position + " > " + (long)bytes.length * 8);
+    }
+
+    private void checkReaderPosition(@NotNull final long position) {
+        if (position < 0 || position > writerPosition())
+            throw new IndexOutOfBoundsException("Reader position higher than writer position: " + position + " > " + writerPosition());
     }
 
-    private static void checkLength(@NotNull final int length) {
-        if (length < 0)
-            throw new IllegalArgumentException("Length must be more or equal than zero: " + length);
+    private static void checkBitCount(@NotNull final int count) {
+        if (count < 0 || count > 64)
+            throw new IllegalArgumentException("Bit count must be in range [0, 64]: " + count);
+    }
+
+    private long writerPosition() {
+        return (long)writerIndex * 8 + writerBitOffset;
+    }
+
+    private long readerPosition() {
+        return (long)readerIndex * 8 + readerBitOffset;
+    }
+
+    void writerPosition(@NotNull final long position) {
+        checkWriterPosition(position);
+        writerIndex = (int)(position >>> 3);
+        writerBitOffset = (byte)(position & 7);
+    }
+
+    void readerPosition(@NotNull final long position) {
+        checkReaderPosition(position);
+        readerIndex = (int)(position >>> 3);
+        readerBitOffset = (byte)(position & 7);
+    }
+
+    public ByteBun order(@NotNull final ByteOrder order) {
+        this.order = order;
+        return this;
+    }
+
+    public ByteOrder order() {
+        return order;
+    }
+
+    public ByteBun bitOrder(@NotNull final BitOrder bitOrder) {
+        this.bitOrder = bitOrder;
+        return this;
+    }
+
+    public BitOrder bitOrder() {
+        return bitOrder;
     }
 
     public ByteBun writerIndex(@NotNull final int index) {
@@ -119,16 +179,49 @@ public class ByteBun {
         return readerBitOffset;
     }
 
+    public ByteBun markWriter() {
+        markedWriterIndex = writerIndex;
+        markedWriterBitOffset = writerBitOffset;
+        return this;
+    }
+
+    public ByteBun resetWriter() {
+        checkWriter(markedWriterIndex, markedWriterBitOffset);
+        final long markedPosition = (long)markedWriterIndex * 8 + markedWriterBitOffset;
+        if (markedPosition < readerPosition())
+            throw new IndexOutOfBoundsException("Marked writer index lower than reader index: " + markedWriterIndex + "." + markedWriterBitOffset + " < " + readerIndex + "." + readerBitOffset);
+        writerIndex = markedWriterIndex;
+        writerBitOffset = markedWriterBitOffset;
+        return this;
+    }
+
+    public ByteBun markReader() {
+        markedReaderIndex = readerIndex;
+        markedReaderBitOffset = readerBitOffset;
+        return this;
+    }
+
+    public ByteBun resetReader() {
+        checkReader(markedReaderIndex, markedReaderBitOffset);
+        readerIndex = markedReaderIndex;
+        readerBitOffset = markedReaderBitOffset;
+        return this;
+    }
+
+    public WriteTransaction beginWrite() {
+        return new WriteTransaction();
+    }
+
     public ByteBun writeBoolean(@NotNull final boolean value) {
         final byte tmpOffset = (byte) ((writerBitOffset + 1) % 8);
         final int tmpIndex = writerIndex + (tmpOffset == 0 ? 1 : 0);
 
         checkWriter(tmpIndex, tmpOffset);
 
-        final byte byteValue = (byte) (1 << (7 - writerBitOffset));
-        bytes[writerIndex] &= ~byteValue;
-        if (value)
-            bytes[writerIndex] |= byteValue;
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.WRITE_BOOLEAN, 1, false);
+
+        BitKernel.putBoolean(bytes, writerPosition(), value, bitOrder);
 
         writerIndex = tmpIndex;
         writerBitOffset = tmpOffset;
@@ -142,7 +235,10 @@ public class ByteBun {
 
         checkReader(tmpIndex, tmpOffset);
 
-        final boolean value = (((bytes[readerIndex] & BYTE_MASK) >> (7 - readerBitOffset)) & 1) == 1;
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.READ_BOOLEAN, 1, false);
+
+        final boolean value = BitKernel.getBoolean(bytes, readerPosition(), bitOrder);
 
         readerIndex = tmpIndex;
         readerBitOffset = tmpOffset;
@@ -155,18 +251,10 @@ public class ByteBun {
 
         checkWriter(tmpIndex, writerBitOffset);
 
-        if (writerBitOffset == 0) {
-            bytes[writerIndex] = value;
-        } else {
-            final byte headMask = (byte)((1 << (8 - writerBitOffset)) - 1);
-            final byte tailMask = (byte)(~headMask);
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.WRITE_BYTE, 8, writerBitOffset != 0);
 
-            bytes[writerIndex] &= tailMask;
-            bytes[writerIndex] |= (value & BYTE_MASK) >> (writerBitOffset);
-
-            bytes[tmpIndex] &= headMask;
-            bytes[tmpIndex] |= value << (8 - writerBitOffset);
-        }
+        BitKernel.putByte(bytes, writerPosition(), value, bitOrder);
 
         writerIndex = tmpIndex;
 
@@ -178,14 +266,10 @@ public class ByteBun {
 
         checkReader(tmpIndex, readerBitOffset);
 
-        byte value = 0;
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.READ_BYTE, 8, readerBitOffset != 0);
 
-        if (readerBitOffset == 0) {
-            value = bytes[readerIndex];
-        } else {
-            value |= bytes[readerIndex] << (readerBitOffset);
-            value |= (bytes[tmpIndex] & BYTE_MASK) >> (8 - readerBitOffset);
-        }
+        final byte value = BitKernel.getByte(bytes, readerPosition(), bitOrder);
 
         readerIndex = tmpIndex;
 
@@ -195,21 +279,11 @@ public class ByteBun {
     public ByteBun writeShort(@NotNull final short value) {
         checkWriter(writerIndex + 2, writerBitOffset);
 
-        if (writerBitOffset == 0) {
-            bytes[writerIndex++] = (byte)(value >> 8);
-            bytes[writerIndex++] = (byte)value;
-        } else {
-            final byte headMask = (byte)((1 << (8 - writerBitOffset)) - 1);
-            final byte tailMask = (byte)(~headMask);
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.WRITE_SHORT, 16, writerBitOffset != 0);
 
-            bytes[writerIndex] &= tailMask;
-            bytes[writerIndex++] |= (byte)(value >> (8 + writerBitOffset));
-
-            bytes[writerIndex++] = (byte)(value >> (writerBitOffset));
-
-            bytes[writerIndex] &= headMask;
-            bytes[writerIndex] |= (byte)(value << (8 - writerBitOffset));
-        }
+        BitKernel.putShort(bytes, writerPosition(), value, order, bitOrder);
+        writerIndex += 2;
 
         return this;
     }
@@ -217,16 +291,11 @@ public class ByteBun {
     public short readShort() {
         checkReader(readerIndex + 2, readerBitOffset);
 
-        short value = 0;
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.READ_SHORT, 16, readerBitOffset != 0);
 
-        if (readerBitOffset == 0) {
-            value |= bytes[readerIndex++] << 8;
-            value |= bytes[readerIndex++];
-        } else {
-            value |= bytes[readerIndex++] << (8 + readerBitOffset);
-            value |= bytes[readerIndex++] << (readerBitOffset);
-            value |= (bytes[readerIndex] & BYTE_MASK) >> (8 - readerBitOffset);
-        }
+        final short value = BitKernel.getShort(bytes, readerPosition(), order, bitOrder);
+        readerIndex += 2;
 
         return value;
     }
@@ -242,25 +311,11 @@ public class ByteBun {
     public ByteBun writeInt(@NotNull final int value) {
         checkWriter(writerIndex + 4, writerBitOffset);
 
-        if (writerBitOffset == 0) {
-            bytes[writerIndex++] = (byte)(value >> 24);
-            bytes[writerIndex++] = (byte)(value >> 16);
-            bytes[writerIndex++] = (byte)(value >> 8);
-            bytes[writerIndex++] = (byte)value;
-        } else {
-            final byte headMask = (byte)((1 << (8 - writerBitOffset)) - 1);
-            final byte tailMask = (byte)(~headMask);
-
-            bytes[writerIndex] &= tailMask;
-            bytes[writerIndex++] |= (byte)(value >> (24 + writerBitOffset));
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.WRITE_INT, 32, writerBitOffset != 0);
 
-            bytes[writerIndex++] = (byte)(value >> (16 + writerBitOffset));
-            bytes[writerIndex++] = (byte)(value >> (8 + writerBitOffset));
-            bytes[writerIndex++] = (byte)(value >> (writerBitOffset));
-
-            bytes[writerIndex] &= headMask;
-            bytes[writerIndex] |= (byte)(value << (8 - writerBitOffset));
-        }
+        BitKernel.putInt(bytes, writerPosition(), value, order, bitOrder);
+        writerIndex += 4;
 
         return this;
     }
@@ -268,20 +323,11 @@ public class ByteBun {
     public int readInt() {
         checkReader(readerIndex + 4, readerBitOffset);
 
-        int value = 0;
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.READ_INT, 32, readerBitOffset != 0);
 
-        if (readerBitOffset == 0) {
-            value |= bytes[readerIndex++] << 24;
-            value |= bytes[readerIndex++] << 16;
-            value |= bytes[readerIndex++] << 8;
-            value |= bytes[readerIndex++];
-        } else {
-            value |= bytes[readerIndex++] << (24 + readerBitOffset);
-            value |= bytes[readerIndex++] << (16 + readerBitOffset);
-            value |= bytes[readerIndex++] << (8 + readerBitOffset);
-            value |= bytes[readerIndex++] << (readerBitOffset);
-            value |= (bytes[readerIndex] & BYTE_MASK) >> (8 - readerBitOffset);
-        }
+        final int value = BitKernel.getInt(bytes, readerPosition(), order, bitOrder);
+        readerIndex += 4;
 
         return value;
     }
@@ -297,33 +343,11 @@ public class ByteBun {
     public ByteBun writeLong(@NotNull final long value) {
         checkWriter(writerIndex + 8, writerBitOffset);
 
-        if (writerBitOffset == 0) {
-            bytes[writerIndex++] = (byte)(value >> 56);
-            bytes[writerIndex++] = (byte)(value >> 48);
-            bytes[writerIndex++] = (byte)(value >> 40);
-            bytes[writerIndex++] = (byte)(value >> 32);
-            bytes[writerIndex++] = (byte)(value >> 24);
-            bytes[writerIndex++] = (byte)(value >> 16);
-            bytes[writerIndex++] = (byte)(value >> 8);
-            bytes[writerIndex++] = (byte)value;
-        } else {
-            final byte headMask = (byte)((1 << (8 - writerBitOffset)) - 1);
-            final byte tailMask = (byte)(~headMask);
-
-            bytes[writerIndex] &= tailMask;
-            bytes[writerIndex++] |= (byte)(value >> (56 + writerBitOffset));
-
-            bytes[writerIndex++] = (byte)(value >> (48 + writerBitOffset));
-            bytes[writerIndex++] = (byte)(value >> (40 + writerBitOffset));
-            bytes[writerIndex++] = (byte)(value >> (32 + writerBitOffset));
-            bytes[writerIndex++] = (byte)(value >> (24 + writerBitOffset));
-            bytes[writerIndex++] = (byte)(value >> (16 + writerBitOffset));
-            bytes[writerIndex++] = (byte)(value >> (8 + writerBitOffset));
-            bytes[writerIndex++] = (byte)(value >> (writerBitOffset));
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.WRITE_LONG, 64, writerBitOffset != 0);
 
-            bytes[writerIndex] &= headMask;
-            bytes[writerIndex] |= (byte)(value << (8 - writerBitOffset));
-        }
+        BitKernel.putLong(bytes, writerPosition(), value, order, bitOrder);
+        writerIndex += 8;
 
         return this;
     }
@@ -331,28 +355,11 @@ public class ByteBun {
     public long readLong() {
         checkReader(readerIndex + 8, readerBitOffset);
 
-        long value = 0;
-
-        if (readerBitOffset == 0) {
-            value |= bytes[readerIndex++] << 56;
-            value |= bytes[readerIndex++] << 48;
-            value |= bytes[readerIndex++] << 40;
-            value |= bytes[readerIndex++] << 32;
-            value |= bytes[readerIndex++] << 24;
-            value |= bytes[readerIndex++] << 16;
-            value |= bytes[readerIndex++] << 8;
-            value |= bytes[readerIndex++];
-        } else {
-            value |= bytes[readerIndex++] << (56 + readerBitOffset);
-            value |= bytes[readerIndex++] << (48 + readerBitOffset);
-            value |= bytes[readerIndex++] << (40 + readerBitOffset);
-            value |= bytes[readerIndex++] << (32 + readerBitOffset);
-            value |= bytes[readerIndex++] << (24 + readerBitOffset);
-            value |= bytes[readerIndex++] << (16 + readerBitOffset);
-            value |= bytes[readerIndex++] << (8 + readerBitOffset);
-            value |= bytes[readerIndex++] << (readerBitOffset);
-            value |= (bytes[readerIndex] & BYTE_MASK) >> (8 - readerBitOffset);
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.READ_LONG, 64, readerBitOffset != 0);
+
+        final long value = BitKernel.getLong(bytes, readerPosition(), order, bitOrder);
+        readerIndex += 8;
 
         return value;
     }
@@ -365,12 +372,68 @@ public class ByteBun {
         return Double.longBitsToDouble(readLong());
     }
 
+    public ByteBun writeBits(@NotNull final long value, @NotNull final int count) {
+        checkBitCount(count);
+        final long tmpPosition = writerPosition() + count;
+        final int tmpIndex = (int)(tmpPosition >>> 3);
+        final byte tmpOffset = (byte)(tmpPosition & 7);
+
+        checkWriter(tmpIndex, tmpOffset);
+
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.WRITE_BITS, count, writerBitOffset != 0);
+
+        BitKernel.putBits(bytes, writerPosition(), value, count, bitOrder);
+
+        writerIndex = tmpIndex;
+        writerBitOffset = tmpOffset;
+
+        return this;
+    }
+
+    public long readBits(@NotNull final int count) {
+        checkBitCount(count);
+        final long tmpPosition = readerPosition() + count;
+        final int tmpIndex = (int)(tmpPosition >>> 3);
+        final byte tmpOffset = (byte)(tmpPosition & 7);
+
+        checkReader(tmpIndex, tmpOffset);
+
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.READ_BITS, count, readerBitOffset != 0);
+
+        final long value = BitKernel.getBits(bytes, readerPosition(), count, bitOrder);
+
+        readerIndex = tmpIndex;
+        readerBitOffset = tmpOffset;
+
+        return value;
+    }
+
+    public WriteCursor ensureWritable(@NotNull final long bits) {
+        Checks.checkLength(bits);
+        final long tmpPosition = writerPosition() + bits;
+        checkWriterPosition(tmpPosition);
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.WRITE_CURSOR, bits, writerBitOffset != 0);
+        return new WriteCursor(writerPosition(), tmpPosition);
+    }
+
+    public ReadCursor ensureReadable(@NotNull final long bits) {
+        Checks.checkLength(bits);
+        final long tmpPosition = readerPosition() + bits;
+        checkReaderPosition(tmpPosition);
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.record(Operation.READ_CURSOR, bits, readerBitOffset != 0);
+        return new ReadCursor(readerPosition(), tmpPosition);
+    }
+
     public ByteBun writeBooleans(@NotNull final boolean[] value) {
         return writeBooleans(value, 0, value.length);
     }
 
     public ByteBun writeBooleans(@NotNull final boolean[] value, @NotNull final int pos, @NotNull final int length) {
-        checkArray(value, pos, length);
+        Checks.checkArray(value, pos, length);
         checkWriter(writerIndex + (writerBitOffset + length) / 8, (byte)((writerBitOffset + length) % 8));
         for (int i = 0; i < length; i++ ) {
             writeBoolean(value[pos + i]);
@@ -379,7 +442,7 @@ public class ByteBun {
     }
 
     public boolean[] readBooleans(@NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         final boolean[] target = new boolean[length];
         readBooleans(target);
         return target;
@@ -390,8 +453,8 @@ public class ByteBun {
     }
 
     public ByteBun readBooleans (@NotNull final boolean[] target, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(target, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
         checkReader(readerIndex + (readerBitOffset + length) / 8, (byte)((readerBitOffset + length) % 8));
         for (int i = 0; i < length; i++) {
             target[i + pos] = readBoolean();
@@ -404,12 +467,13 @@ public class ByteBun {
     }
 
     public ByteBun writeBytes(@NotNull final byte[] value, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(value, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(value, pos, length);
         checkWriter(writerIndex + length, writerBitOffset);
-        for (int i = 0; i < length; i++ ) {
-            writeByte(value[pos + i]);
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.WRITE_BYTE, length, writerBitOffset != 0);
+        BitKernel.copyBytes(value, (long)pos * 8, bitOrder, bytes, writerPosition(), bitOrder, length);
+        writerIndex += length;
         return this;
     }
 
@@ -418,17 +482,19 @@ public class ByteBun {
     }
 
     public ByteBun writeBytes(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkReader(buffer.readerIndex + length, buffer.readerBitOffset);
         checkWriter(writerIndex + length, writerBitOffset);
-        for (int i = 0; i < length; i++) {
-            writeByte(buffer.readByte());
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.COPY, length, writerBitOffset != 0 || buffer.readerBitOffset != 0);
+        BitKernel.copyBytes(buffer.bytes, buffer.readerPosition(), buffer.bitOrder, bytes, writerPosition(), bitOrder, length);
+        buffer.readerIndex += length;
+        writerIndex += length;
         return this;
     }
 
     public byte[] readBytes(@NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         final byte[] target = new byte[length];
         readBytes(target);
         return target;
@@ -439,12 +505,13 @@ public class ByteBun {
     }
 
     public ByteBun readBytes(@NotNull final byte[] target, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(target, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
         checkReader(readerIndex + length, readerBitOffset);
-        for (int i = 0; i < length; i++) {
-            target[i + pos] = readByte();
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.READ_BYTE, length, readerBitOffset != 0);
+        BitKernel.copyBytes(bytes, readerPosition(), bitOrder, target, (long)pos * 8, bitOrder, length);
+        readerIndex += length;
         return this;
     }
 
@@ -453,12 +520,14 @@ public class ByteBun {
     }
 
     public ByteBun readBytes(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkWriter(buffer.writerIndex + length, buffer.writerBitOffset);
         checkReader(readerIndex + length, readerBitOffset);
-        for (int i = 0; i < length; i++) {
-            buffer.writeByte(readByte());
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.COPY, length, readerBitOffset != 0 || buffer.writerBitOffset != 0);
+        BitKernel.copyBytes(bytes, readerPosition(), bitOrder, buffer.bytes, buffer.writerPosition(), buffer.bitOrder, length);
+        readerIndex += length;
+        buffer.writerIndex += length;
         return this;
     }
 
@@ -467,12 +536,13 @@ public class ByteBun {
     }
 
     public ByteBun writeShorts(@NotNull final short[] value, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(value, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(value, pos, length);
         checkWriter(writerIndex + length * 2, writerBitOffset);
-        for (int i = 0; i < length; i++ ) {
-            writeShort(value[pos + i]);
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.WRITE_SHORT, length * 2, writerBitOffset != 0);
+        BitKernel.putShorts(bytes, writerPosition(), value, pos, length, order, bitOrder);
+        writerIndex += length * 2;
         return this;
     }
 
@@ -481,7 +551,7 @@ public class ByteBun {
     }
 
     public ByteBun writeShorts(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkReader(buffer.readerIndex + length * 2, buffer.readerBitOffset);
         checkWriter(writerIndex + length * 2, writerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -491,7 +561,7 @@ public class ByteBun {
     }
 
     public short[] readShorts(@NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         final short[] target = new short[length];
         readShorts(target);
         return target;
@@ -502,12 +572,13 @@ public class ByteBun {
     }
 
     public ByteBun readShorts(@NotNull final short[] target, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(target, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
         checkReader(readerIndex + length * 2, readerBitOffset);
-        for (int i = 0; i < length; i++) {
-            target[i + pos] = readShort();
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.READ_SHORT, length * 2, readerBitOffset != 0);
+        BitKernel.getShorts(bytes, readerPosition(), target, pos, length, order, bitOrder);
+        readerIndex += length * 2;
         return this;
     }
 
@@ -516,7 +587,7 @@ public class ByteBun {
     }
 
     public ByteBun readShorts(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkWriter(buffer.writerIndex + length * 2, buffer.writerBitOffset);
         checkReader(readerIndex + length * 2, readerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -530,8 +601,8 @@ public class ByteBun {
     }
 
     public ByteBun writeChars(@NotNull final char[] value, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(value, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(value, pos, length);
         checkWriter(writerIndex + length * 2, writerBitOffset);
         for (int i = 0; i < length; i++ ) {
             writeChar(value[pos + i]);
@@ -544,7 +615,7 @@ public class ByteBun {
     }
 
     public ByteBun writeChars(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkReader(buffer.readerIndex + length * 2, buffer.readerBitOffset);
         checkWriter(writerIndex + length * 2, writerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -554,7 +625,7 @@ public class ByteBun {
     }
 
     public char[] readChars(@NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         final char[] target = new char[length];
         readChars(target);
         return target;
@@ -565,8 +636,8 @@ public class ByteBun {
     }
 
     public ByteBun readChars(@NotNull final char[] target, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(target, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
         checkReader(readerIndex + length * 2, readerBitOffset);
         for (int i = 0; i < length; i++) {
             target[i + pos] = readChar();
@@ -579,7 +650,7 @@ public class ByteBun {
     }
 
     public ByteBun readChars(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkWriter(buffer.writerIndex + length * 2, buffer.writerBitOffset);
         checkReader(readerIndex + length * 2, readerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -593,12 +664,13 @@ public class ByteBun {
     }
 
     public ByteBun writeInts(@NotNull final int[] value, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(value, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(value, pos, length);
         checkWriter(writerIndex + length * 4, writerBitOffset);
-        for (int i = 0; i < length; i++ ) {
-            writeInt(value[pos + i]);
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.WRITE_INT, length * 4, writerBitOffset != 0);
+        BitKernel.putInts(bytes, writerPosition(), value, pos, length, order, bitOrder);
+        writerIndex += length * 4;
         return this;
     }
 
@@ -607,7 +679,7 @@ public class ByteBun {
     }
 
     public ByteBun writeInts(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkReader(buffer.readerIndex + length * 4, buffer.readerBitOffset);
         checkWriter(writerIndex + length * 4, writerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -617,7 +689,7 @@ public class ByteBun {
     }
 
     public int[] readInts(@NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         final int[] target = new int[length];
         readInts(target);
         return target;
@@ -628,12 +700,13 @@ public class ByteBun {
     }
 
     public ByteBun readInts(@NotNull final int[] target, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(target, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
         checkReader(readerIndex + length * 4, readerBitOffset);
-        for (int i = 0; i < length; i++) {
-            target[i] = readInt();
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.READ_INT, length * 4, readerBitOffset != 0);
+        BitKernel.getInts(bytes, readerPosition(), target, pos, length, order, bitOrder);
+        readerIndex += length * 4;
         return this;
     }
 
@@ -642,7 +715,7 @@ public class ByteBun {
     }
 
     public ByteBun readInts(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkWriter(buffer.writerIndex + length * 4, buffer.writerBitOffset);
         checkReader(readerIndex + length * 4, readerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -656,12 +729,13 @@ public class ByteBun {
     }
 
     public ByteBun writeFloats(@NotNull final float[] value, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(value, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(value, pos, length);
         checkWriter(writerIndex + length * 4, writerBitOffset);
-        for (int i = 0; i < length; i++ ) {
-            writeFloat(value[pos + i]);
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.WRITE_INT, length * 4, writerBitOffset != 0);
+        BitKernel.putFloats(bytes, writerPosition(), value, pos, length, order, bitOrder);
+        writerIndex += length * 4;
         return this;
     }
 
@@ -670,7 +744,7 @@ public class ByteBun {
     }
 
     public ByteBun writeFloats(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkReader(buffer.readerIndex + length * 4, buffer.readerBitOffset);
         checkWriter(writerIndex + length * 4, writerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -680,7 +754,7 @@ public class ByteBun {
     }
 
     public float[] readFloats(@NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         final float[] target = new float[length];
         readFloats(target);
         return target;
@@ -691,12 +765,13 @@ public class ByteBun {
     }
 
     public ByteBun readFloats(@NotNull final float[] target, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(target, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
         checkReader(readerIndex + length * 4, readerBitOffset);
-        for (int i = 0; i < length; i++) {
-            target[i] = readFloat();
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.READ_INT, length * 4, readerBitOffset != 0);
+        BitKernel.getFloats(bytes, readerPosition(), target, pos, length, order, bitOrder);
+        readerIndex += length * 4;
         return this;
     }
 
@@ -705,7 +780,7 @@ public class ByteBun {
     }
 
     public ByteBun readFloats(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkWriter(buffer.writerIndex + length * 4, buffer.writerBitOffset);
         checkReader(readerIndex + length * 4, readerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -719,12 +794,13 @@ public class ByteBun {
     }
 
     public ByteBun writeLongs(@NotNull final long[] value, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(value, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(value, pos, length);
         checkWriter(writerIndex + length * 8, writerBitOffset);
-        for (int i = 0; i < length; i++ ) {
-            writeLong(value[pos + i]);
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.WRITE_LONG, length * 8, writerBitOffset != 0);
+        BitKernel.putLongs(bytes, writerPosition(), value, pos, length, order, bitOrder);
+        writerIndex += length * 8;
         return this;
     }
 
@@ -733,7 +809,7 @@ public class ByteBun {
     }
 
     public ByteBun writeLongs(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkReader(buffer.readerIndex + length * 8, buffer.readerBitOffset);
         checkWriter(writerIndex + length * 8, writerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -743,7 +819,7 @@ public class ByteBun {
     }
 
     public long[] readLongs(@NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         final long[] target = new long[length];
         readLongs(target);
         return target;
@@ -754,12 +830,13 @@ public class ByteBun {
     }
 
     public ByteBun readLongs(@NotNull final long[] target, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(target, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
         checkReader(readerIndex + length * 8, readerBitOffset);
-        for (int i = 0; i < length; i++) {
-            target[i] = readLong();
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.READ_LONG, length * 8, readerBitOffset != 0);
+        BitKernel.getLongs(bytes, readerPosition(), target, pos, length, order, bitOrder);
+        readerIndex += length * 8;
         return this;
     }
 
@@ -768,7 +845,7 @@ public class ByteBun {
     }
 
     public ByteBun readLongs(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkWriter(buffer.writerIndex + length * 8, buffer.writerBitOffset);
         checkReader(readerIndex + length * 8, readerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -782,12 +859,13 @@ public class ByteBun {
     }
 
     public ByteBun writeDoubles(@NotNull final double[] value, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(value, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(value, pos, length);
         checkWriter(writerIndex + length * 8, writerBitOffset);
-        for (int i = 0; i < length; i++ ) {
-            writeDouble(value[pos + i]);
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.WRITE_LONG, length * 8, writerBitOffset != 0);
+        BitKernel.putDoubles(bytes, writerPosition(), value, pos, length, order, bitOrder);
+        writerIndex += length * 8;
         return this;
     }
 
@@ -796,7 +874,7 @@ public class ByteBun {
     }
 
     public ByteBun writeDoubles(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkReader(buffer.readerIndex + length * 8, buffer.readerBitOffset);
         checkWriter(writerIndex + length * 8, writerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -806,7 +884,7 @@ public class ByteBun {
     }
 
     public double[] readDoubles(@NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         final double[] target = new double[length];
         readDoubles(target);
         return target;
@@ -817,12 +895,13 @@ public class ByteBun {
     }
 
     public ByteBun readDoubles(@NotNull final double[] target, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(target, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
         checkReader(readerIndex + length * 8, readerBitOffset);
-        for (int i = 0; i < length; i++) {
-            target[i] = readDouble();
-        }
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.READ_LONG, length * 8, readerBitOffset != 0);
+        BitKernel.getDoubles(bytes, readerPosition(), target, pos, length, order, bitOrder);
+        readerIndex += length * 8;
         return this;
     }
 
@@ -831,7 +910,7 @@ public class ByteBun {
     }
 
     public ByteBun readDoubles(@NotNull final ByteBun buffer, @NotNull final int length) {
-        checkLength(length);
+        Checks.checkLength(length);
         buffer.checkWriter(buffer.writerIndex + length * 8, buffer.writerBitOffset);
         checkReader(readerIndex + length * 8, readerBitOffset);
         for (int i = 0; i < length; i++) {
@@ -853,9 +932,11 @@ public class ByteBun {
     }
 
     public ByteBun getBytes(@NotNull final int index, @NotNull final byte[] target, @NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(target, pos, length);
-        checkArray(bytes, index, length);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        Checks.checkArray(bytes, index, length);
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.COPY, length, false);
         for (int i = 0; i < length; i++) {
             target[pos + i] = bytes[index + i];
         }
@@ -874,24 +955,122 @@ public class ByteBun {
         return getBytes(index, buffer.bytes, pos, length);
     }
 
+    private void checkBits(@NotNull final long bitIndex, @NotNull final int count) {
+        if (bitIndex < 0 || bitIndex + count > (long)bytes.length * 8)
+            throw new IndexOutOfBoundsException("Bit index out of capacity: " + bitIndex + " + " + count + " > " + (long)bytes.length * 8);
+    }
+
+    public boolean getBoolean(@NotNull final long bitIndex) {
+        checkBits(bitIndex, 1);
+        return BitKernel.getBoolean(bytes, bitIndex, bitOrder);
+    }
+
+    public ByteBun setBoolean(@NotNull final long bitIndex, @NotNull final boolean value) {
+        checkBits(bitIndex, 1);
+        BitKernel.putBoolean(bytes, bitIndex, value, bitOrder);
+        return this;
+    }
+
+    public short getShort(@NotNull final long bitIndex) {
+        checkBits(bitIndex, 16);
+        return BitKernel.getShort(bytes, bitIndex, order, bitOrder);
+    }
+
+    public ByteBun setShort(@NotNull final long bitIndex, @NotNull final short value) {
+        checkBits(bitIndex, 16);
+        BitKernel.putShort(bytes, bitIndex, value, order, bitOrder);
+        return this;
+    }
+
+    public char getChar(@NotNull final long bitIndex) {
+        return (char)getShort(bitIndex);
+    }
+
+    public ByteBun setChar(@NotNull final long bitIndex, @NotNull final char value) {
+        return setShort(bitIndex, (short)value);
+    }
+
+    public int getInt(@NotNull final long bitIndex) {
+        checkBits(bitIndex, 32);
+        return BitKernel.getInt(bytes, bitIndex, order, bitOrder);
+    }
+
+    public ByteBun setInt(@NotNull final long bitIndex, @NotNull final int value) {
+        checkBits(bitIndex, 32);
+        BitKernel.putInt(bytes, bitIndex, value, order, bitOrder);
+        return this;
+    }
+
+    public float getFloat(@NotNull final long bitIndex) {
+        return Float.intBitsToFloat(getInt(bitIndex));
+    }
+
+    public ByteBun setFloat(@NotNull final long bitIndex, @NotNull final float value) {
+        return setInt(bitIndex, Float.floatToRawIntBits(value));
+    }
+
+    public long getLong(@NotNull final long bitIndex) {
+        checkBits(bitIndex, 64);
+        return BitKernel.getLong(bytes, bitIndex, order, bitOrder);
+    }
+
+    public ByteBun setLong(@NotNull final long bitIndex, @NotNull final long value) {
+        checkBits(bitIndex, 64);
+        BitKernel.putLong(bytes, bitIndex, value, order, bitOrder);
+        return this;
+    }
+
+    public double getDouble(@NotNull final long bitIndex) {
+        return Double.longBitsToDouble(getLong(bitIndex));
+    }
+
+    public ByteBun setDouble(@NotNull final long bitIndex, @NotNull final double value) {
+        return setLong(bitIndex, Double.doubleToRawLongBits(value));
+    }
+
+    public long getBits(@NotNull final long bitIndex, @NotNull final int count) {
+        checkBitCount(count);
+        checkBits(bitIndex, count);
+        return BitKernel.getBits(bytes, bitIndex, count, bitOrder);
+    }
+
+    public ByteBun setBits(@NotNull final long bitIndex, @NotNull final long value, @NotNull final int count) {
+        checkBitCount(count);
+        checkBits(bitIndex, count);
+        BitKernel.putBits(bytes, bitIndex, value, count, bitOrder);
+        return this;
+    }
+
     public ByteBun copy() {
         return copy(0, bytes.length);
     }
 
     public ByteBun copy(@NotNull final int pos, @NotNull final int length) {
-        checkLength(length);
-        checkArray(bytes, pos, length);
+        Checks.checkLength(length);
+        Checks.checkArray(bytes, pos, length);
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.COPY, length, false);
         final ByteBun bun = ByteBun.allocate(length);
         System.arraycopy(bytes, pos, bun.bytes, 0, length);
+        bun.order = order;
+        bun.bitOrder = bitOrder;
         return bun;
     }
 
     public ByteBun duplicate() {
-        final ByteBun bun = ByteBun.allocate();
-        bun.bytes = bytes;
+        final ByteBun bun = new ByteBun(bytes);
+        bun.order = order;
+        bun.bitOrder = bitOrder;
         return bun;
     }
 
+    public FrozenByteBun freeze() {
+        final int length = writerIndex + (writerBitOffset != 0 ? 1 : 0);
+        if (ByteBunMetrics.ENABLED)
+            ByteBunMetrics.bulkCopy(Operation.COPY, length, false);
+        return new FrozenByteBun(Arrays.copyOf(bytes, length), readerPosition(), writerPosition(), order, bitOrder);
+    }
+
     public ByteBun clear() {
         writerIndex = 0;
         writerBitOffset = 0;
@@ -959,4 +1138,213 @@ public class ByteBun {
         return new ByteBun(capacity);
     }
 
+    // Cursors skip all per-call checks, the whole run was validated by ensureWritable/ensureReadable.
+    // Position is committed back to the buffer on close, the buffer must not be resized meanwhile.
+    public final class WriteCursor implements AutoCloseable {
+
+        private final byte[] bytes = ByteBun.this.bytes;
+        private final ByteOrder order = ByteBun.this.order;
+        private final BitOrder bitOrder = ByteBun.this.bitOrder;
+
+        private final long limit;
+        private long position;
+
+        private WriteCursor(@NotNull final long position, @NotNull final long limit) {
+            this.position = position;
+            this.limit = limit;
+        }
+
+        public long remaining() {
+            return limit - position;
+        }
+
+        public WriteCursor putBoolean(@NotNull final boolean value) {
+            assert position + 1 <= limit;
+            BitKernel.putBoolean(bytes, position, value, bitOrder);
+            position += 1;
+            return this;
+        }
+
+        public WriteCursor putByte(@NotNull final byte value) {
+            assert position + 8 <= limit;
+            BitKernel.putByte(bytes, position, value, bitOrder);
+            position += 8;
+            return this;
+        }
+
+        public WriteCursor putShort(@NotNull final short value) {
+            assert position + 16 <= limit;
+            BitKernel.putShort(bytes, position, value, order, bitOrder);
+            position += 16;
+            return this;
+        }
+
+        public WriteCursor putChar(@NotNull final char value) {
+            return putShort((short)value);
+        }
+
+        public WriteCursor putInt(@NotNull final int value) {
+            assert position + 32 <= limit;
+            BitKernel.putInt(bytes, position, value, order, bitOrder);
+            position += 32;
+            return this;
+        }
+
+        public WriteCursor putFloat(@NotNull final float value) {
+            return putInt(Float.floatToRawIntBits(value));
+        }
+
+        public WriteCursor putLong(@NotNull final long value) {
+            assert position + 64 <= limit;
+            BitKernel.putLong(bytes, position, value, order, bitOrder);
+            position += 64;
+            return this;
+        }
+
+        public WriteCursor putDouble(@NotNull final double value) {
+            return putLong(Double.doubleToRawLongBits(value));
+        }
+
+        public WriteCursor putBits(@NotNull final long value, @NotNull final int count) {
+            assert count >= 0 && count <= 64 && position + count <= limit;
+            BitKernel.putBits(bytes, position, value, count, bitOrder);
+            position += count;
+            return this;
+        }
+
+        @Override
+        public void close() {
+            writerIndex = (int)(position >>> 3);
+            writerBitOffset = (byte)(position & 7);
+        }
+
+    }
+
+    public final class ReadCursor implements AutoCloseable {
+
+        private final byte[] bytes = ByteBun.this.bytes;
+        private final ByteOrder order = ByteBun.this.order;
+        private final BitOrder bitOrder = ByteBun.this.bitOrder;
+
+        private final long limit;
+        private long position;
+
+        private ReadCursor(@NotNull final long position, @NotNull final long limit) {
+            this.position = position;
+            this.limit = limit;
+        }
+
+        public long remaining() {
+            return limit - position;
+        }
+
+        public boolean getBoolean() {
+            assert position + 1 <= limit;
+            final boolean value = BitKernel.getBoolean(bytes, position, bitOrder);
+            position += 1;
+            return value;
+        }
+
+        public byte getByte() {
+            assert position + 8 <= limit;
+            final byte value = BitKernel.getByte(bytes, position, bitOrder);
+            position += 8;
+            return value;
+        }
+
+        public short getShort() {
+            assert position + 16 <= limit;
+            final short value = BitKernel.getShort(bytes, position, order, bitOrder);
+            position += 16;
+            return value;
+        }
+
+        public char getChar() {
+            return (char)getShort();
+        }
+
+        public int getInt() {
+            assert position + 32 <= limit;
+            final int value = BitKernel.getInt(bytes, position, order, bitOrder);
+            position += 32;
+            return value;
+        }
+
+        public float getFloat() {
+            return Float.intBitsToFloat(getInt());
+        }
+
+        public long getLong() {
+            assert position + 64 <= limit;
+            final long value = BitKernel.getLong(bytes, position, order, bitOrder);
+            position += 64;
+            return value;
+        }
+
+        public double getDouble() {
+            return Double.longBitsToDouble(getLong());
+        }
+
+        public long getBits(@NotNull final int count) {
+            assert count >= 0 && count <= 64 && position + count <= limit;
+            final long value = BitKernel.getBits(bytes, position, count, bitOrder);
+            position += count;
+            return value;
+        }
+
+        @Override
+        public void close() {
+            readerIndex = (int)(position >>> 3);
+            readerBitOffset = (byte)(position & 7);
+        }
+
+    }
+
+    // Only the byte under a non zero writer bit offset holds data from before the transaction,
+    // everything after it is free space, so rollback restores that single byte and the writer position.
+    public final class WriteTransaction implements AutoCloseable {
+
+        private final int index = writerIndex;
+        private final byte bitOffset = writerBitOffset;
+        private final byte boundary = writerBitOffset != 0 ? bytes[writerIndex] : 0;
+
+        private boolean done = false;
+
+        private WriteTransaction() {}
+
+        public void commit() {
+            if (done)
+                throw new IllegalStateException("Transaction is already finished");
+            done = true;
+        }
+
+        public void rollback() {
+            if (done)
+                throw new IllegalStateException("Transaction is already finished");
+            done = true;
+            if (bitOffset != 0 && index < bytes.length)
+                bytes[index] = boundary;
+            writerIndex = index;
+            writerBitOffset = bitOffset;
+
+            // Reads of rolled back bits are rolled back as well, so the reader never passes the writer.
+            final long position = (long)index * 8 + bitOffset;
+            if (readerPosition() > position) {
+                readerIndex = index;
+                readerBitOffset = bitOffset;
+            }
+            if ((long)markedReaderIndex * 8 + markedReaderBitOffset > position) {
+                markedReaderIndex = index;
+                markedReaderBitOffset = bitOffset;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!done)
+                rollback();
+        }
+
+    }
+
 }
@@ -0,0 +1,262 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// Filled buffers are queued to a single I/O thread, which drains the queue into gather writes of up to maxBatchBytes.
+// With forceBatches > 0 futures complete only after force(), taken every forceBatches batches, when the queue runs
+// empty or when sync() is requested, so one fsync covers a whole group of writers.
+// Futures complete on the I/O thread, dependent actions should be cheap or async. After an I/O error the sink is
+// failed: nothing more is written after the torn data, every pending and later request fails with that error.
+public final class ByteBunFileSink implements AutoCloseable {
+
+    private final static class Request {
+
+        private final ByteBun buffer;
+        private final ByteBuffer data;
+        private final boolean force;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Request(final ByteBun buffer, @NotNull final ByteBuffer data, @NotNull final boolean force) {
+            this.buffer = buffer;
+            this.data = data;
+            this.force = force;
+        }
+
+    }
+
+    private final static ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final BlockingQueue<Request> queue;
+    private final int maxBatchBytes;
+    private final int forceBatches;
+    private final Consumer<ByteBun> recycler;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Request closeRequest = new Request(null, EMPTY, true);
+    private final Thread thread;
+
+    private boolean closed = false;
+    private volatile Throwable failure = null;
+
+    private ByteBunFileSink(@NotNull final FileChannel channel, @NotNull final int queueCapacity, @NotNull final int maxBatchBytes,
+                            @NotNull final int forceBatches, final Consumer<ByteBun> recycler) {
+        this.channel = channel;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchBytes = maxBatchBytes;
+        this.forceBatches = forceBatches;
+        this.recycler = recycler;
+        this.thread = new Thread(this::run, "bytebun-file-sink");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // Blocks while the queue is full. Only whole bytes up to the writer index are written, a partial last byte stays
+    // in the buffer for the next write. The sink owns the buffer until its bytes reach the file,
+    // then the reader is moved past them and the buffer is handed to the recycler.
+    public CompletableFuture<Void> write(@NotNull final ByteBun buffer) throws InterruptedException {
+        if (buffer.readerBitOffset() != 0)
+            throw new IllegalArgumentException("Reader must be byte aligned: " + buffer.readerIndex() + "." + buffer.readerBitOffset());
+        final ByteBuffer data = ByteBuffer.wrap(buffer.array(), buffer.readerIndex(), buffer.writerIndex() - buffer.readerIndex());
+        return enqueue(new Request(buffer, data, false));
+    }
+
+    public CompletableFuture<Void> sync() throws InterruptedException {
+        return enqueue(new Request(null, EMPTY, true));
+    }
+
+    private CompletableFuture<Void> enqueue(@NotNull final Request request) throws InterruptedException {
+        lock.readLock().lock();
+        try {
+            if (closed)
+                throw new IllegalStateException("Sink is closed");
+            if (failure != null)
+                throw new IllegalStateException("Sink has failed", failure);
+            queue.put(request);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return request.future;
+    }
+
+    // Waits for every queued request even when interrupted, the interrupt flag is restored afterwards.
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed)
+                return;
+            closed = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(closeRequest);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        try {
+            closeRequest.future.join();
+        } catch (CompletionException e) {
+            throw (IOException)e.getCause();
+        }
+    }
+
+    private void run() {
+        final List<Request> batch = new ArrayList<>();
+        final List<Request> unforced = new ArrayList<>();
+        int batches = 0;
+        boolean running = true;
+
+        while (running) {
+            final Request first;
+            try {
+                first = queue.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+
+            if (failure != null) {
+                if (first == closeRequest)
+                    running = false;
+                else
+                    first.future.completeExceptionally(failure);
+                continue;
+            }
+
+            batch.add(first);
+            long batchBytes = first.data.remaining();
+            boolean force = first.force;
+            while (true) {
+                final Request next = queue.peek();
+                if (next == null || batchBytes + next.data.remaining() > maxBatchBytes)
+                    break;
+                queue.poll();
+                batch.add(next);
+                batchBytes += next.data.remaining();
+                force |= next.force;
+            }
+            if (batch.get(batch.size() - 1) == closeRequest)
+                running = false;
+
+            try {
+                writeBatch(batch);
+                release(batch);
+                if (forceBatches == 0 && !force) {
+                    complete(batch, null);
+                } else {
+                    unforced.addAll(batch);
+                    batches++;
+                    if (force || batches >= forceBatches || queue.isEmpty()) {
+                        channel.force(false);
+                        batches = 0;
+                        complete(unforced, null);
+                    }
+                }
+            } catch (Throwable e) {
+                failure = e;
+                complete(unforced, e);
+                complete(batch, e);
+            }
+            batch.clear();
+        }
+
+        try {
+            channel.close();
+            closeRequest.future.complete(null);
+        } catch (IOException e) {
+            closeRequest.future.completeExceptionally(e);
+        }
+    }
+
+    private void writeBatch(@NotNull final List<Request> batch) throws IOException {
+        final ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = batch.get(i).data;
+        }
+        int index = 0;
+        while (index < buffers.length) {
+            channel.write(buffers, index, buffers.length - index);
+            while (index < buffers.length && !buffers[index].hasRemaining()) {
+                index++;
+            }
+        }
+    }
+
+    // Recycler errors do not fail requests whose bytes are already written,
+    // they go to the uncaught exception handler of the I/O thread.
+    private void release(@NotNull final List<Request> batch) {
+        for (final Request request : batch) {
+            if (request.buffer == null)
+                continue;
+            request.buffer.readerIndex(request.data.limit());
+            if (recycler != null) {
+                try {
+                    recycler.accept(request.buffer);
+                } catch (Throwable e) {
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        }
+    }
+
+    private void complete(@NotNull final List<Request> requests, final Throwable error) {
+        for (final Request request : requests) {
+            if (request == closeRequest)
+                continue;
+            if (error == null)
+                request.future.complete(null);
+            else
+                request.future.completeExceptionally(error);
+        }
+        requests.clear();
+    }
+
+    public static ByteBunFileSink open(@NotNull final Path path) throws IOException {
+        return open(path, 1024, 1 << 20, 0, null);
+    }
+
+    public static ByteBunFileSink open(@NotNull final Path path, @NotNull final int queueCapacity, @NotNull final int maxBatchBytes,
+                                       @NotNull final int forceBatches, final Consumer<ByteBun> recycler) throws IOException {
+        if (queueCapacity <= 0)
+            throw new IllegalArgumentException("Queue capacity must be more than zero: " + queueCapacity);
+        if (maxBatchBytes <= 0)
+            throw new IllegalArgumentException("Max batch bytes must be more than zero: " + maxBatchBytes);
+        if (forceBatches < 0)
+            throw new IllegalArgumentException("Force batches must be more or equal than zero: " + forceBatches);
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return new ByteBunFileSink(channel, queueCapacity, maxBatchBytes, forceBatches, recycler);
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ByteBunMetrics {
+
+    // Read once on class init, so disabled metrics are folded away by the JIT.
+    public final static boolean ENABLED = Boolean.getBoolean("bytebun.metrics");
+
+    public enum Operation {
+        WRITE_BOOLEAN,
+        READ_BOOLEAN,
+        WRITE_BYTE,
+        READ_BYTE,
+        WRITE_SHORT,
+        READ_SHORT,
+        WRITE_INT,
+        READ_INT,
+        WRITE_LONG,
+        READ_LONG,
+        WRITE_BITS,
+        READ_BITS,
+        WRITE_CURSOR,
+        READ_CURSOR,
+        COPY
+    }
+
+    public interface Listener {
+
+        default void onAllocate(@NotNull final int capacity) {}
+
+        default void onResize(@NotNull final int oldCapacity, @NotNull final int newCapacity) {}
+
+        default void onBulkCopy(@NotNull final Operation operation, @NotNull final int length) {}
+
+    }
+
+    private final static Operation[] OPERATIONS = Operation.values();
+
+    private final static LongAdder allocations = new LongAdder();
+    private final static LongAdder allocatedBytes = new LongAdder();
+    private final static LongAdder resizes = new LongAdder();
+
+    private final static LongAdder[] calls = adders();
+    private final static LongAdder[] bits = adders();
+    private final static LongAdder[] unaligned = adders();
+
+    private static volatile Listener listener = null;
+
+    private ByteBunMetrics() {}
+
+    private static LongAdder[] adders() {
+        final LongAdder[] adders = new LongAdder[OPERATIONS.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    public static void listener(final Listener listener) {
+        ByteBunMetrics.listener = listener;
+    }
+
+    public static Listener listener() {
+        return listener;
+    }
+
+    static void allocate(@NotNull final int capacity) {
+        allocations.increment();
+        allocatedBytes.add(capacity);
+        final Listener tmpListener = listener;
+        if (tmpListener != null)
+            tmpListener.onAllocate(capacity);
+    }
+
+    static void resize(@NotNull final int oldCapacity, @NotNull final int newCapacity) {
+        resizes.increment();
+        final Listener tmpListener = listener;
+        if (tmpListener != null)
+            tmpListener.onResize(oldCapacity, newCapacity);
+    }
+
+    static void record(@NotNull final Operation operation, @NotNull final long bitCount, @NotNull final boolean unalignedAccess) {
+        final int ordinal = operation.ordinal();
+        calls[ordinal].increment();
+        bits[ordinal].add(bitCount);
+        if (unalignedAccess)
+            unaligned[ordinal].increment();
+    }
+
+    static void bulkCopy(@NotNull final Operation operation, @NotNull final int length, @NotNull final boolean unalignedAccess) {
+        record(operation, (long)length * 8, unalignedAccess);
+        final Listener tmpListener = listener;
+        if (tmpListener != null)
+            tmpListener.onBulkCopy(operation, length);
+    }
+
+    public static long allocations() {
+        return allocations.sum();
+    }
+
+    public static long allocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    public static long resizes() {
+        return resizes.sum();
+    }
+
+    public static long calls(@NotNull final Operation operation) {
+        return calls[operation.ordinal()].sum();
+    }
+
+    public static long bytes(@NotNull final Operation operation) {
+        return bits[operation.ordinal()].sum() / 8;
+    }
+
+    public static long bits(@NotNull final Operation operation) {
+        return bits[operation.ordinal()].sum();
+    }
+
+    public static long unaligned(@NotNull final Operation operation) {
+        return unaligned[operation.ordinal()].sum();
+    }
+
+    public static void reset() {
+        allocations.reset();
+        allocatedBytes.reset();
+        resizes.reset();
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            calls[i].reset();
+            bits[i].reset();
+            unaligned[i].reset();
+        }
+    }
+
+}
@@ -0,0 +1,319 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+import java.nio.ByteOrder;
+
+public final class ByteBunReader {
+
+    private final byte[] bytes;
+    private final long limit;
+    private final ByteOrder order;
+    private final BitOrder bitOrder;
+
+    private int readerIndex;
+    private byte readerBitOffset;
+
+    private int markedReaderIndex;
+    private byte markedReaderBitOffset;
+
+    ByteBunReader(@NotNull final FrozenByteBun bun) {
+        bytes = bun.bytes;
+        limit = bun.limit;
+        order = bun.order;
+        bitOrder = bun.bitOrder;
+        readerIndex = markedReaderIndex = (int)(bun.start >>> 3);
+        readerBitOffset = markedReaderBitOffset = (byte)(bun.start & 7);
+    }
+
+    private long readerPosition() {
+        return (long)readerIndex * 8 + readerBitOffset;
+    }
+
+    private long checkReader(@NotNull final long bits) {
+        final long position = readerPosition();
+        if (position + bits > limit)
+            throw new IndexOutOfBoundsException("Reader position higher than limit: " + position + " + " + bits + " > " + limit);
+        return position;
+    }
+
+    private void moveReader(@NotNull final long position) {
+        readerIndex = (int)(position >>> 3);
+        readerBitOffset = (byte)(position & 7);
+    }
+
+    public int readerIndex() {
+        return readerIndex;
+    }
+
+    public ByteBunReader readerIndex(@NotNull final int index) {
+        final long position = (long)index * 8 + readerBitOffset;
+        if (index < 0 || position > limit)
+            throw new IndexOutOfBoundsException("Reader index higher than limit: " + index + "." + readerBitOffset + " > " + limit);
+        readerIndex = index;
+        return this;
+    }
+
+    public byte readerBitOffset() {
+        return readerBitOffset;
+    }
+
+    public ByteBunReader readerBitOffset(@NotNull final byte offset) {
+        final long position = (long)readerIndex * 8 + offset;
+        if (offset < 0 || offset > 7 || position > limit)
+            throw new IndexOutOfBoundsException("Reader bit offset out of limit: " + readerIndex + "." + offset + " > " + limit);
+        readerBitOffset = offset;
+        return this;
+    }
+
+    public long availableReadBits() {
+        return limit - readerPosition();
+    }
+
+    public int availableRead() {
+        return (int)(availableReadBits() / 8);
+    }
+
+    public ByteBunReader markReader() {
+        markedReaderIndex = readerIndex;
+        markedReaderBitOffset = readerBitOffset;
+        return this;
+    }
+
+    public ByteBunReader resetReader() {
+        readerIndex = markedReaderIndex;
+        readerBitOffset = markedReaderBitOffset;
+        return this;
+    }
+
+    public boolean readBoolean() {
+        final long position = checkReader(1);
+        final boolean value = BitKernel.getBoolean(bytes, position, bitOrder);
+        moveReader(position + 1);
+        return value;
+    }
+
+    public byte readByte() {
+        final long position = checkReader(8);
+        final byte value = BitKernel.getByte(bytes, position, bitOrder);
+        moveReader(position + 8);
+        return value;
+    }
+
+    public short readShort() {
+        final long position = checkReader(16);
+        final short value = BitKernel.getShort(bytes, position, order, bitOrder);
+        moveReader(position + 16);
+        return value;
+    }
+
+    public char readChar() {
+        return (char)readShort();
+    }
+
+    public int readInt() {
+        final long position = checkReader(32);
+        final int value = BitKernel.getInt(bytes, position, order, bitOrder);
+        moveReader(position + 32);
+        return value;
+    }
+
+    public float readFloat() {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    public long readLong() {
+        final long position = checkReader(64);
+        final long value = BitKernel.getLong(bytes, position, order, bitOrder);
+        moveReader(position + 64);
+        return value;
+    }
+
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    public long readBits(@NotNull final int count) {
+        if (count < 0 || count > 64)
+            throw new IllegalArgumentException("Bit count must be in range [0, 64]: " + count);
+        final long position = checkReader(count);
+        final long value = BitKernel.getBits(bytes, position, count, bitOrder);
+        moveReader(position + count);
+        return value;
+    }
+
+    public boolean[] readBooleans(@NotNull final int length) {
+        Checks.checkLength(length);
+        final boolean[] target = new boolean[length];
+        readBooleans(target);
+        return target;
+    }
+
+    public ByteBunReader readBooleans(@NotNull final boolean[] target) {
+        return readBooleans(target, 0, target.length);
+    }
+
+    public ByteBunReader readBooleans(@NotNull final boolean[] target, @NotNull final int pos, @NotNull final int length) {
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        long position = checkReader(length);
+        for (int i = 0; i < length; i++) {
+            target[pos + i] = BitKernel.getBoolean(bytes, position, bitOrder);
+            position += 1;
+        }
+        moveReader(position);
+        return this;
+    }
+
+    public byte[] readBytes(@NotNull final int length) {
+        Checks.checkLength(length);
+        final byte[] target = new byte[length];
+        readBytes(target);
+        return target;
+    }
+
+    public ByteBunReader readBytes(@NotNull final byte[] target) {
+        return readBytes(target, 0, target.length);
+    }
+
+    public ByteBunReader readBytes(@NotNull final byte[] target, @NotNull final int pos, @NotNull final int length) {
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        long position = checkReader((long)length * 8);
+        if (readerBitOffset == 0) {
+            System.arraycopy(bytes, readerIndex, target, pos, length);
+            position += (long)length * 8;
+        } else {
+            for (int i = 0; i < length; i++) {
+                target[pos + i] = BitKernel.getByte(bytes, position, bitOrder);
+                position += 8;
+            }
+        }
+        moveReader(position);
+        return this;
+    }
+
+    public short[] readShorts(@NotNull final int length) {
+        Checks.checkLength(length);
+        final short[] target = new short[length];
+        readShorts(target);
+        return target;
+    }
+
+    public ByteBunReader readShorts(@NotNull final short[] target) {
+        return readShorts(target, 0, target.length);
+    }
+
+    public ByteBunReader readShorts(@NotNull final short[] target, @NotNull final int pos, @NotNull final int length) {
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        final long position = checkReader((long)length * 16);
+        BitKernel.getShorts(bytes, position, target, pos, length, order, bitOrder);
+        moveReader(position + (long)length * 16);
+        return this;
+    }
+
+    public char[] readChars(@NotNull final int length) {
+        Checks.checkLength(length);
+        final char[] target = new char[length];
+        readChars(target);
+        return target;
+    }
+
+    public ByteBunReader readChars(@NotNull final char[] target) {
+        return readChars(target, 0, target.length);
+    }
+
+    public ByteBunReader readChars(@NotNull final char[] target, @NotNull final int pos, @NotNull final int length) {
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        long position = checkReader((long)length * 16);
+        for (int i = 0; i < length; i++) {
+            target[pos + i] = (char)BitKernel.getShort(bytes, position, order, bitOrder);
+            position += 16;
+        }
+        moveReader(position);
+        return this;
+    }
+
+    public int[] readInts(@NotNull final int length) {
+        Checks.checkLength(length);
+        final int[] target = new int[length];
+        readInts(target);
+        return target;
+    }
+
+    public ByteBunReader readInts(@NotNull final int[] target) {
+        return readInts(target, 0, target.length);
+    }
+
+    public ByteBunReader readInts(@NotNull final int[] target, @NotNull final int pos, @NotNull final int length) {
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        final long position = checkReader((long)length * 32);
+        BitKernel.getInts(bytes, position, target, pos, length, order, bitOrder);
+        moveReader(position + (long)length * 32);
+        return this;
+    }
+
+    public float[] readFloats(@NotNull final int length) {
+        Checks.checkLength(length);
+        final float[] target = new float[length];
+        readFloats(target);
+        return target;
+    }
+
+    public ByteBunReader readFloats(@NotNull final float[] target) {
+        return readFloats(target, 0, target.length);
+    }
+
+    public ByteBunReader readFloats(@NotNull final float[] target, @NotNull final int pos, @NotNull final int length) {
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        final long position = checkReader((long)length * 32);
+        BitKernel.getFloats(bytes, position, target, pos, length, order, bitOrder);
+        moveReader(position + (long)length * 32);
+        return this;
+    }
+
+    public long[] readLongs(@NotNull final int length) {
+        Checks.checkLength(length);
+        final long[] target = new long[length];
+        readLongs(target);
+        return target;
+    }
+
+    public ByteBunReader readLongs(@NotNull final long[] target) {
+        return readLongs(target, 0, target.length);
+    }
+
+    public ByteBunReader readLongs(@NotNull final long[] target, @NotNull final int pos, @NotNull final int length) {
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        final long position = checkReader((long)length * 64);
+        BitKernel.getLongs(bytes, position, target, pos, length, order, bitOrder);
+        moveReader(position + (long)length * 64);
+        return this;
+    }
+
+    public double[] readDoubles(@NotNull final int length) {
+        Checks.checkLength(length);
+        final double[] target = new double[length];
+        readDoubles(target);
+        return target;
+    }
+
+    public ByteBunReader readDoubles(@NotNull final double[] target) {
+        return readDoubles(target, 0, target.length);
+    }
+
+    public ByteBunReader readDoubles(@NotNull final double[] target, @NotNull final int pos, @NotNull final int length) {
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        final long position = checkReader((long)length * 64);
+        BitKernel.getDoubles(bytes, position, target, pos, length, order, bitOrder);
+        moveReader(position + (long)length * 64);
+        return this;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+import java.lang.reflect.Array;
+
+final class Checks {
+
+    private Checks() {}
+
+    static void checkLength(@NotNull final int length) {
+        if (length < 0)
+            throw new IllegalArgumentException("Length must be more or equal than zero: " + length);
+    }
+
+    static void checkLength(@NotNull final long length) {
+        if (length < 0)
+            throw new IllegalArgumentException("Length must be more or equal than zero: " + length);
+    }
+
+    static void checkArray(@NotNull final Object array, @NotNull final int pos, @NotNull final int length) {
+        final int arrayLength = Array.getLength(array);
+        if (pos + length > arrayLength)
+            throw new IndexOutOfBoundsException("pos + length > array.length: " + pos + " + " + length + " > " + arrayLength);
+    }
+
+}
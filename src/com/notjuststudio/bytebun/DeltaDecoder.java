@@ -0,0 +1,97 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+public final class DeltaDecoder {
+
+    private final ByteBun buffer;
+    private final DeltaEncoder.Mode mode;
+
+    private boolean first = true;
+    private long previous = 0;
+    private long previousDelta = 0;
+
+    private final long[] block;
+    private int blockLength = 0;
+    private int blockIndex = 0;
+
+    private DeltaDecoder(@NotNull final ByteBun buffer, @NotNull final DeltaEncoder.Mode mode) {
+        this.buffer = buffer;
+        this.mode = mode;
+        this.block = mode == DeltaEncoder.Mode.BLOCK ? new long[DeltaEncoder.BLOCK_SIZE] : null;
+    }
+
+    public ByteBun buffer() {
+        return buffer;
+    }
+
+    public DeltaEncoder.Mode mode() {
+        return mode;
+    }
+
+    public long readLong() {
+        return next();
+    }
+
+    public long[] readLongs(@NotNull final int length) {
+        Checks.checkLength(length);
+        final long[] target = new long[length];
+        readLongs(target, 0, length);
+        return target;
+    }
+
+    public DeltaDecoder readLongs(@NotNull final long[] target) {
+        return readLongs(target, 0, target.length);
+    }
+
+    public DeltaDecoder readLongs(@NotNull final long[] target, @NotNull final int pos, @NotNull final int length) {
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        for (int i = 0; i < length; i++) {
+            target[pos + i] = next();
+        }
+        return this;
+    }
+
+    private long next() {
+        if (first) {
+            first = false;
+            previous = buffer.readLong();
+            return previous;
+        }
+
+        switch (mode) {
+            case DELTA:
+                previous += DeltaEncoder.readBucket(buffer);
+                break;
+            case DELTA_OF_DELTA:
+                previousDelta += DeltaEncoder.readBucket(buffer);
+                previous += previousDelta;
+                break;
+            case BLOCK:
+                if (blockIndex == blockLength)
+                    readBlock();
+                previous += block[blockIndex++];
+                break;
+        }
+
+        return previous;
+    }
+
+    private void readBlock() {
+        blockLength = (int)buffer.readBits(DeltaEncoder.BLOCK_COUNT_BITS) + 1;
+        final long min = buffer.readLong();
+        final int width = (int)buffer.readBits(DeltaEncoder.BLOCK_WIDTH_BITS);
+        try (ByteBun.ReadCursor cursor = buffer.ensureReadable((long)blockLength * width)) {
+            for (int i = 0; i < blockLength; i++) {
+                block[i] = cursor.getBits(width) + min;
+            }
+        }
+        blockIndex = 0;
+    }
+
+    public static DeltaDecoder create(@NotNull final ByteBun buffer, @NotNull final DeltaEncoder.Mode mode) {
+        return new DeltaDecoder(buffer, mode);
+    }
+
+}
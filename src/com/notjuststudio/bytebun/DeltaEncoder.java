@@ -0,0 +1,176 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+// The first value is stored raw. DELTA and DELTA_OF_DELTA store every next difference zigzag encoded in
+// Gorilla timestamp buckets: '0', '10' + 7, '110' + 9, '1110' + 12, '11110' + 32 or '11111' + 64 bits.
+// BLOCK stores deltas in blocks of up to 128: count - 1 (7 bits), block minimum (64 bits), width (7 bits)
+// and then every delta minus the minimum packed in width bits.
+public final class DeltaEncoder {
+
+    public enum Mode {
+        DELTA,
+        DELTA_OF_DELTA,
+        BLOCK
+    }
+
+    final static int BLOCK_SIZE = 128;
+    final static int BLOCK_COUNT_BITS = 7;
+    final static int BLOCK_WIDTH_BITS = 7;
+
+    private final ByteBun buffer;
+    private final Mode mode;
+
+    private boolean first = true;
+    private long previous = 0;
+    private long previousDelta = 0;
+
+    private final long[] block;
+    private int blockLength = 0;
+
+    private DeltaEncoder(@NotNull final ByteBun buffer, @NotNull final Mode mode) {
+        this.buffer = buffer;
+        this.mode = mode;
+        this.block = mode == Mode.BLOCK ? new long[BLOCK_SIZE] : null;
+    }
+
+    public ByteBun buffer() {
+        return buffer;
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    public DeltaEncoder writeLong(@NotNull final long value) {
+        append(value);
+        return this;
+    }
+
+    public DeltaEncoder writeLongs(@NotNull final long[] value) {
+        return writeLongs(value, 0, value.length);
+    }
+
+    public DeltaEncoder writeLongs(@NotNull final long[] value, @NotNull final int pos, @NotNull final int length) {
+        Checks.checkLength(length);
+        Checks.checkArray(value, pos, length);
+        for (int i = 0; i < length; i++) {
+            append(value[pos + i]);
+        }
+        return this;
+    }
+
+    // Writes a pending partial block, a no-op outside of BLOCK mode.
+    public DeltaEncoder flush() {
+        if (blockLength != 0)
+            writeBlock();
+        return this;
+    }
+
+    private void append(@NotNull final long value) {
+        if (first) {
+            buffer.writeLong(value);
+            first = false;
+            previous = value;
+            return;
+        }
+
+        final long delta = value - previous;
+        previous = value;
+
+        switch (mode) {
+            case DELTA:
+                writeBucket(buffer, delta);
+                break;
+            case DELTA_OF_DELTA:
+                writeBucket(buffer, delta - previousDelta);
+                previousDelta = delta;
+                break;
+            case BLOCK:
+                block[blockLength++] = delta;
+                if (blockLength == BLOCK_SIZE)
+                    writeBlock();
+                break;
+        }
+    }
+
+    private void writeBlock() {
+        long min = block[0];
+        for (int i = 1; i < blockLength; i++) {
+            if (block[i] < min)
+                min = block[i];
+        }
+        long mask = 0;
+        for (int i = 0; i < blockLength; i++) {
+            mask |= block[i] - min;
+        }
+        final int width = 64 - Long.numberOfLeadingZeros(mask);
+
+        buffer.writeBits(blockLength - 1, BLOCK_COUNT_BITS);
+        buffer.writeLong(min);
+        buffer.writeBits(width, BLOCK_WIDTH_BITS);
+        try (ByteBun.WriteCursor cursor = buffer.ensureWritable((long)blockLength * width)) {
+            for (int i = 0; i < blockLength; i++) {
+                cursor.putBits(block[i] - min, width);
+            }
+        }
+
+        blockLength = 0;
+    }
+
+    static void writeBucket(@NotNull final ByteBun buffer, @NotNull final long value) {
+        final long zigzag = (value << 1) ^ (value >> 63);
+        if (zigzag == 0) {
+            buffer.writeBoolean(false);
+            return;
+        }
+        buffer.writeBoolean(true);
+        if ((zigzag >>> 7) == 0) {
+            buffer.writeBoolean(false);
+            buffer.writeBits(zigzag, 7);
+            return;
+        }
+        buffer.writeBoolean(true);
+        if ((zigzag >>> 9) == 0) {
+            buffer.writeBoolean(false);
+            buffer.writeBits(zigzag, 9);
+            return;
+        }
+        buffer.writeBoolean(true);
+        if ((zigzag >>> 12) == 0) {
+            buffer.writeBoolean(false);
+            buffer.writeBits(zigzag, 12);
+            return;
+        }
+        buffer.writeBoolean(true);
+        if ((zigzag >>> 32) == 0) {
+            buffer.writeBoolean(false);
+            buffer.writeBits(zigzag, 32);
+            return;
+        }
+        buffer.writeBoolean(true);
+        buffer.writeBits(zigzag, 64);
+    }
+
+    static long readBucket(@NotNull final ByteBun buffer) {
+        final long zigzag;
+        if (!buffer.readBoolean())
+            return 0;
+        else if (!buffer.readBoolean())
+            zigzag = buffer.readBits(7);
+        else if (!buffer.readBoolean())
+            zigzag = buffer.readBits(9);
+        else if (!buffer.readBoolean())
+            zigzag = buffer.readBits(12);
+        else if (!buffer.readBoolean())
+            zigzag = buffer.readBits(32);
+        else
+            zigzag = buffer.readBits(64);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public static DeltaEncoder create(@NotNull final ByteBun buffer, @NotNull final Mode mode) {
+        return new DeltaEncoder(buffer, mode);
+    }
+
+}
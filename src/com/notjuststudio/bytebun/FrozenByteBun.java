@@ -0,0 +1,97 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+import java.nio.ByteOrder;
+
+// All fields are final and the array is never exposed, so a frozen bun is safely published to any thread.
+public final class FrozenByteBun {
+
+    final byte[] bytes;
+    final long start;
+    final long limit;
+    final ByteOrder order;
+    final BitOrder bitOrder;
+
+    FrozenByteBun(@NotNull final byte[] bytes, @NotNull final long start, @NotNull final long limit, @NotNull final ByteOrder order, @NotNull final BitOrder bitOrder) {
+        this.bytes = bytes;
+        this.start = start;
+        this.limit = limit;
+        this.order = order;
+        this.bitOrder = bitOrder;
+    }
+
+    public ByteBunReader newReader() {
+        return new ByteBunReader(this);
+    }
+
+    public long startBits() {
+        return start;
+    }
+
+    public long limitBits() {
+        return limit;
+    }
+
+    public ByteOrder order() {
+        return order;
+    }
+
+    public BitOrder bitOrder() {
+        return bitOrder;
+    }
+
+    private void checkBits(@NotNull final long bitIndex, @NotNull final int count) {
+        if (bitIndex < 0 || bitIndex + count > limit)
+            throw new IndexOutOfBoundsException("Bit index out of limit: " + bitIndex + " + " + count + " > " + limit);
+    }
+
+    public boolean getBoolean(@NotNull final long bitIndex) {
+        checkBits(bitIndex, 1);
+        return BitKernel.getBoolean(bytes, bitIndex, bitOrder);
+    }
+
+    // Byte index as in ByteBun.getByte, a byte at a bit position is getBits(bitIndex, 8).
+    public byte getByte(@NotNull final int index) {
+        return bytes[index];
+    }
+
+    public short getUnsignedByte(@NotNull final int index) {
+        return (short)(bytes[index] & 0xff);
+    }
+
+    public short getShort(@NotNull final long bitIndex) {
+        checkBits(bitIndex, 16);
+        return BitKernel.getShort(bytes, bitIndex, order, bitOrder);
+    }
+
+    public char getChar(@NotNull final long bitIndex) {
+        return (char)getShort(bitIndex);
+    }
+
+    public int getInt(@NotNull final long bitIndex) {
+        checkBits(bitIndex, 32);
+        return BitKernel.getInt(bytes, bitIndex, order, bitOrder);
+    }
+
+    public float getFloat(@NotNull final long bitIndex) {
+        return Float.intBitsToFloat(getInt(bitIndex));
+    }
+
+    public long getLong(@NotNull final long bitIndex) {
+        checkBits(bitIndex, 64);
+        return BitKernel.getLong(bytes, bitIndex, order, bitOrder);
+    }
+
+    public double getDouble(@NotNull final long bitIndex) {
+        return Double.longBitsToDouble(getLong(bitIndex));
+    }
+
+    public long getBits(@NotNull final long bitIndex, @NotNull final int count) {
+        if (count < 0 || count > 64)
+            throw new IllegalArgumentException("Bit count must be in range [0, 64]: " + count);
+        checkBits(bitIndex, count);
+        return BitKernel.getBits(bytes, bitIndex, count, bitOrder);
+    }
+
+}
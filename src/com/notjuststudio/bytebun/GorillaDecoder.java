@@ -0,0 +1,107 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+public final class GorillaDecoder {
+
+    private final ByteBun buffer;
+    private final int width;
+    private final int lengthBits;
+
+    private boolean first = true;
+    private long previous = 0;
+    private int previousLeading = 0;
+    private int previousTrailing = 0;
+
+    private GorillaDecoder(@NotNull final ByteBun buffer, @NotNull final int width) {
+        this.buffer = buffer;
+        this.width = width;
+        this.lengthBits = GorillaEncoder.lengthBits(width);
+    }
+
+    public ByteBun buffer() {
+        return buffer;
+    }
+
+    public double readDouble() {
+        GorillaEncoder.checkWidth(width, 64);
+        return Double.longBitsToDouble(next());
+    }
+
+    public double[] readDoubles(@NotNull final int length) {
+        Checks.checkLength(length);
+        final double[] target = new double[length];
+        readDoubles(target, 0, length);
+        return target;
+    }
+
+    public GorillaDecoder readDoubles(@NotNull final double[] target) {
+        return readDoubles(target, 0, target.length);
+    }
+
+    public GorillaDecoder readDoubles(@NotNull final double[] target, @NotNull final int pos, @NotNull final int length) {
+        GorillaEncoder.checkWidth(width, 64);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        for (int i = 0; i < length; i++) {
+            target[pos + i] = Double.longBitsToDouble(next());
+        }
+        return this;
+    }
+
+    public float readFloat() {
+        GorillaEncoder.checkWidth(width, 32);
+        return Float.intBitsToFloat((int)next());
+    }
+
+    public float[] readFloats(@NotNull final int length) {
+        Checks.checkLength(length);
+        final float[] target = new float[length];
+        readFloats(target, 0, length);
+        return target;
+    }
+
+    public GorillaDecoder readFloats(@NotNull final float[] target) {
+        return readFloats(target, 0, target.length);
+    }
+
+    public GorillaDecoder readFloats(@NotNull final float[] target, @NotNull final int pos, @NotNull final int length) {
+        GorillaEncoder.checkWidth(width, 32);
+        Checks.checkLength(length);
+        Checks.checkArray(target, pos, length);
+        for (int i = 0; i < length; i++) {
+            target[pos + i] = Float.intBitsToFloat((int)next());
+        }
+        return this;
+    }
+
+    private long next() {
+        if (first) {
+            first = false;
+            previous = buffer.readBits(width);
+            return previous;
+        }
+
+        if (!buffer.readBoolean())
+            return previous;
+
+        if (buffer.readBoolean()) {
+            final long header = buffer.readBits(GorillaEncoder.LEADING_BITS + lengthBits);
+            previousLeading = (int)(header >>> lengthBits);
+            previousTrailing = width - previousLeading - ((int)(header & ((1 << lengthBits) - 1)) + 1);
+        }
+
+        final long xor = buffer.readBits(width - previousLeading - previousTrailing) << previousTrailing;
+        previous ^= xor;
+        return previous;
+    }
+
+    public static GorillaDecoder forDoubles(@NotNull final ByteBun buffer) {
+        return new GorillaDecoder(buffer, 64);
+    }
+
+    public static GorillaDecoder forFloats(@NotNull final ByteBun buffer) {
+        return new GorillaDecoder(buffer, 32);
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+// Gorilla (Facebook TSDB) XOR encoding. The first value is stored raw, every next one as its xor with the previous:
+// '0' for an equal value, '10' + meaningful bits inside the previous window, or
+// '11' + 5 bits of leading zeros + meaningful length - 1 + meaningful bits for a new window.
+public final class GorillaEncoder {
+
+    final static int LEADING_BITS = 5;
+    final static int MAX_LEADING = (1 << LEADING_BITS) - 1;
+
+    private final ByteBun buffer;
+    private final int width;
+    private final int lengthBits;
+
+    private boolean first = true;
+    private long previous = 0;
+    private int previousLeading = -1;
+    private int previousTrailing = 0;
+
+    private GorillaEncoder(@NotNull final ByteBun buffer, @NotNull final int width) {
+        this.buffer = buffer;
+        this.width = width;
+        this.lengthBits = lengthBits(width);
+    }
+
+    static int lengthBits(@NotNull final int width) {
+        return width == 64 ? 6 : 5;
+    }
+
+    static void checkWidth(@NotNull final int width, @NotNull final int expected) {
+        if (width != expected)
+            throw new IllegalStateException("Codec is created for " + width + " bit values, not " + expected);
+    }
+
+    public ByteBun buffer() {
+        return buffer;
+    }
+
+    public GorillaEncoder writeDouble(@NotNull final double value) {
+        checkWidth(width, 64);
+        append(Double.doubleToRawLongBits(value));
+        return this;
+    }
+
+    public GorillaEncoder writeDoubles(@NotNull final double[] value) {
+        return writeDoubles(value, 0, value.length);
+    }
+
+    public GorillaEncoder writeDoubles(@NotNull final double[] value, @NotNull final int pos, @NotNull final int length) {
+        checkWidth(width, 64);
+        Checks.checkLength(length);
+        Checks.checkArray(value, pos, length);
+        for (int i = 0; i < length; i++) {
+            append(Double.doubleToRawLongBits(value[pos + i]));
+        }
+        return this;
+    }
+
+    public GorillaEncoder writeFloat(@NotNull final float value) {
+        checkWidth(width, 32);
+        append(Float.floatToRawIntBits(value) & 0xffffffffL);
+        return this;
+    }
+
+    public GorillaEncoder writeFloats(@NotNull final float[] value) {
+        return writeFloats(value, 0, value.length);
+    }
+
+    public GorillaEncoder writeFloats(@NotNull final float[] value, @NotNull final int pos, @NotNull final int length) {
+        checkWidth(width, 32);
+        Checks.checkLength(length);
+        Checks.checkArray(value, pos, length);
+        for (int i = 0; i < length; i++) {
+            append(Float.floatToRawIntBits(value[pos + i]) & 0xffffffffL);
+        }
+        return this;
+    }
+
+    private void append(@NotNull final long bits) {
+        if (first) {
+            buffer.writeBits(bits, width);
+            first = false;
+            previous = bits;
+            return;
+        }
+
+        final long xor = bits ^ previous;
+        previous = bits;
+
+        if (xor == 0) {
+            buffer.writeBoolean(false);
+            return;
+        }
+        buffer.writeBoolean(true);
+
+        // Leading zeros are counted inside the value width, float bits live in the low half of the long.
+        int leading = Long.numberOfLeadingZeros(xor) - (64 - width);
+        final int trailing = Long.numberOfTrailingZeros(xor);
+        if (leading > MAX_LEADING)
+            leading = MAX_LEADING;
+
+        if (previousLeading != -1 && leading >= previousLeading && trailing >= previousTrailing) {
+            buffer.writeBoolean(false);
+            buffer.writeBits(xor >>> previousTrailing, width - previousLeading - previousTrailing);
+        } else {
+            final int meaningful = width - leading - trailing;
+            buffer.writeBoolean(true);
+            buffer.writeBits(((long)leading << lengthBits) | (meaningful - 1), LEADING_BITS + lengthBits);
+            buffer.writeBits(xor >>> trailing, meaningful);
+            previousLeading = leading;
+            previousTrailing = trailing;
+        }
+    }
+
+    public static GorillaEncoder forDoubles(@NotNull final ByteBun buffer) {
+        return new GorillaEncoder(buffer, 64);
+    }
+
+    public static GorillaEncoder forFloats(@NotNull final ByteBun buffer) {
+        return new GorillaEncoder(buffer, 32);
+    }
+
+}
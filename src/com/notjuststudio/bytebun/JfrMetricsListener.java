@@ -0,0 +1,91 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Optional, the only class that depends on jdk.jfr. It needs OpenJDK 8u262+ or 11+ and does not compile with
+// javac --release 8, the rest of the package targets plain Java 8 and builds fine without this file.
+public class JfrMetricsListener implements ByteBunMetrics.Listener {
+
+    @Name("com.notjuststudio.bytebun.Allocation")
+    @Label("ByteBun Allocation")
+    @Category("ByteBun")
+    static class AllocationEvent extends Event {
+        @Label("Capacity")
+        @DataAmount
+        int capacity;
+    }
+
+    @Name("com.notjuststudio.bytebun.Resize")
+    @Label("ByteBun Resize")
+    @Category("ByteBun")
+    static class ResizeEvent extends Event {
+        @Label("Old Capacity")
+        @DataAmount
+        int oldCapacity;
+
+        @Label("New Capacity")
+        @DataAmount
+        int newCapacity;
+    }
+
+    @Name("com.notjuststudio.bytebun.BulkCopy")
+    @Label("ByteBun Bulk Copy")
+    @Category("ByteBun")
+    static class BulkCopyEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Length")
+        @DataAmount
+        int length;
+    }
+
+    private final int bulkCopyThreshold;
+
+    public JfrMetricsListener() {
+        this(64 * 1024);
+    }
+
+    public JfrMetricsListener(@NotNull final int bulkCopyThreshold) {
+        if (bulkCopyThreshold < 0)
+            throw new IllegalArgumentException("Threshold must be more or equal than zero: " + bulkCopyThreshold);
+        this.bulkCopyThreshold = bulkCopyThreshold;
+    }
+
+    @Override
+    public void onAllocate(@NotNull final int capacity) {
+        final AllocationEvent event = new AllocationEvent();
+        if (event.shouldCommit()) {
+            event.capacity = capacity;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onResize(@NotNull final int oldCapacity, @NotNull final int newCapacity) {
+        final ResizeEvent event = new ResizeEvent();
+        if (event.shouldCommit()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onBulkCopy(@NotNull final ByteBunMetrics.Operation operation, @NotNull final int length) {
+        if (length < bulkCopyThreshold)
+            return;
+        final BulkCopyEvent event = new BulkCopyEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.length = length;
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+// LZ4 block format: sequences of token, literal length, literals, little endian offset and match length.
+// The hash table is kept between calls and never cleared, stale entries are filtered by comparing the bytes.
+public final class Lz4Codec {
+
+    private final static int MIN_MATCH = 4;
+    private final static int LAST_LITERALS = 5;
+    private final static int MF_LIMIT = 12;
+    private final static int MAX_OFFSET = 0xffff;
+    private final static int RUN_MASK = 0xf;
+    private final static int SKIP_TRIGGER = 6;
+
+    private final static int HASH_LOG = 12;
+
+    private final int[] table = new int[1 << HASH_LOG];
+
+    private Lz4Codec() {}
+
+    public static int maxCompressedLength(@NotNull final int length) {
+        return length + length / 255 + 16;
+    }
+
+    private static int readInt(@NotNull final byte[] bytes, @NotNull final int index) {
+        return (bytes[index] & 0xff)
+                | ((bytes[index + 1] & 0xff) << 8)
+                | ((bytes[index + 2] & 0xff) << 16)
+                | (bytes[index + 3] << 24);
+    }
+
+    private static int hash(@NotNull final int value) {
+        return (value * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    public int compress(@NotNull final ByteBun src, @NotNull final int length, @NotNull final ByteBun dst) {
+        Checks.checkLength(length);
+        if (src.readerBitOffset() != 0 || dst.writerBitOffset() != 0)
+            throw new IllegalArgumentException("Reader and writer must be byte aligned: " + src.readerBitOffset() + ", " + dst.writerBitOffset());
+        if (length > src.availableRead())
+            throw new IndexOutOfBoundsException("Length higher than available read: " + length + " > " + src.availableRead());
+
+        final byte[] in = src.array();
+        final byte[] out = dst.array();
+        final int srcStart = src.readerIndex();
+        final int srcEnd = srcStart + length;
+        final int dstStart = dst.writerIndex();
+
+        int ip = srcStart;
+        int anchor = srcStart;
+        int op = dstStart;
+
+        if (length >= MF_LIMIT + 1) {
+            final int mfLimit = srcEnd - MF_LIMIT;
+            final int matchLimit = srcEnd - LAST_LITERALS;
+
+            ip++;
+            search:
+            while (ip < mfLimit) {
+                int ref;
+                int attempts = 1 << SKIP_TRIGGER;
+                while (true) {
+                    final int h = hash(readInt(in, ip));
+                    ref = table[h];
+                    table[h] = ip;
+                    if (ref >= srcStart && ref < ip && ip - ref <= MAX_OFFSET && readInt(in, ref) == readInt(in, ip))
+                        break;
+                    ip += attempts++ >>> SKIP_TRIGGER;
+                    if (ip >= mfLimit)
+                        break search;
+                }
+
+                while (ip > anchor && ref > srcStart && in[ip - 1] == in[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+
+                int matchLength = MIN_MATCH;
+                while (ip + matchLength < matchLimit && in[ip + matchLength] == in[ref + matchLength]) {
+                    matchLength++;
+                }
+
+                op = writeSequence(in, anchor, ip - anchor, out, op, ip - ref, matchLength);
+
+                ip += matchLength;
+                anchor = ip;
+
+                if (ip < mfLimit)
+                    table[hash(readInt(in, ip - 2))] = ip - 2;
+            }
+        }
+
+        op = writeSequence(in, anchor, srcEnd - anchor, out, op, 0, 0);
+
+        src.readerIndex(srcEnd);
+        dst.writerIndex(op);
+        return op - dstStart;
+    }
+
+    private static int writeLength(@NotNull final byte[] out, @NotNull final int index, @NotNull final int length) {
+        int op = index;
+        int remaining = length - RUN_MASK;
+        while (remaining >= 255) {
+            out[op++] = (byte)255;
+            remaining -= 255;
+        }
+        out[op++] = (byte)remaining;
+        return op;
+    }
+
+    private static int writeSequence(@NotNull final byte[] in, @NotNull final int literalIndex, @NotNull final int literalLength,
+                                     @NotNull final byte[] out, @NotNull final int index, @NotNull final int offset, @NotNull final int matchLength) {
+        final int needed = 1 + literalLength / 255 + 1 + literalLength + (offset != 0 ? 2 + matchLength / 255 + 1 : 0);
+        if (index + needed > out.length)
+            throw new IndexOutOfBoundsException("Writer index out of capacity: " + index + " + " + needed + " > " + out.length);
+
+        int op = index;
+        final int matchCode = offset != 0 ? matchLength - MIN_MATCH : 0;
+        final int token = op++;
+        out[token] = (byte)((Math.min(literalLength, RUN_MASK) << 4) | Math.min(matchCode, RUN_MASK));
+
+        if (literalLength >= RUN_MASK)
+            op = writeLength(out, op, literalLength);
+        System.arraycopy(in, literalIndex, out, op, literalLength);
+        op += literalLength;
+
+        if (offset != 0) {
+            out[op++] = (byte)offset;
+            out[op++] = (byte)(offset >>> 8);
+            if (matchCode >= RUN_MASK)
+                op = writeLength(out, op, matchCode);
+        }
+        return op;
+    }
+
+    public int decompress(@NotNull final ByteBun src, @NotNull final int length, @NotNull final ByteBun dst) {
+        Checks.checkLength(length);
+        if (src.readerBitOffset() != 0 || dst.writerBitOffset() != 0)
+            throw new IllegalArgumentException("Reader and writer must be byte aligned: " + src.readerBitOffset() + ", " + dst.writerBitOffset());
+        if (length > src.availableRead())
+            throw new IndexOutOfBoundsException("Length higher than available read: " + length + " > " + src.availableRead());
+
+        final byte[] in = src.array();
+        final byte[] out = dst.array();
+        final int srcEnd = src.readerIndex() + length;
+        final int dstStart = dst.writerIndex();
+
+        int ip = src.readerIndex();
+        int op = dstStart;
+
+        while (ip < srcEnd) {
+            final int token = in[ip++] & 0xff;
+
+            int literalLength = token >>> 4;
+            if (literalLength == RUN_MASK) {
+                int b;
+                do {
+                    if (ip >= srcEnd)
+                        throw new IllegalArgumentException("Malformed LZ4 block: literal length out of input at " + ip);
+                    b = in[ip++] & 0xff;
+                    literalLength += b;
+                } while (b == 255);
+            }
+            if (ip + literalLength > srcEnd)
+                throw new IllegalArgumentException("Malformed LZ4 block: literals out of input at " + ip);
+            if (op + literalLength > out.length)
+                throw new IndexOutOfBoundsException("Writer index out of capacity: " + op + " + " + literalLength + " > " + out.length);
+            System.arraycopy(in, ip, out, op, literalLength);
+            ip += literalLength;
+            op += literalLength;
+
+            if (ip == srcEnd)
+                break;
+
+            if (ip + 2 > srcEnd)
+                throw new IllegalArgumentException("Malformed LZ4 block: offset out of input at " + ip);
+            final int offset = (in[ip] & 0xff) | ((in[ip + 1] & 0xff) << 8);
+            ip += 2;
+            if (offset == 0 || op - offset < dstStart)
+                throw new IllegalArgumentException("Malformed LZ4 block: offset out of output " + offset + " at " + op);
+
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                int b;
+                do {
+                    if (ip >= srcEnd)
+                        throw new IllegalArgumentException("Malformed LZ4 block: match length out of input at " + ip);
+                    b = in[ip++] & 0xff;
+                    matchLength += b;
+                } while (b == 255);
+            }
+            matchLength += MIN_MATCH;
+            if (op + matchLength > out.length)
+                throw new IndexOutOfBoundsException("Writer index out of capacity: " + op + " + " + matchLength + " > " + out.length);
+
+            // Overlapping matches repeat the last offset bytes, every copy doubles the periodic run behind op.
+            final int ref = op - offset;
+            final int matchEnd = op + matchLength;
+            while (op < matchEnd) {
+                final int chunk = Math.min(op - ref, matchEnd - op);
+                System.arraycopy(out, ref, out, op, chunk);
+                op += chunk;
+            }
+        }
+
+        src.readerIndex(srcEnd);
+        dst.writerIndex(op);
+        return op - dstStart;
+    }
+
+    public static Lz4Codec create() {
+        return new Lz4Codec();
+    }
+
+}
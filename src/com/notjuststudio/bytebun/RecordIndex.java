@@ -0,0 +1,215 @@
+package com.notjuststudio.bytebun;
+
+import com.sun.istack.internal.NotNull;
+
+import java.util.Arrays;
+
+// Side index of record start bit offsets. Every BLOCK_SIZE-th start is kept as an absolute checkpoint, the other
+// starts of a block are packed as offsets from the checkpoint in the block width, so seekRecord is one unpack.
+// Serialized form: record count (32 bits), end of the last record (64 bits) and then for every block
+// the checkpoint (64 bits), width (7 bits) and the offsets of all but the first record packed in width bits.
+public final class RecordIndex {
+
+    final static int BLOCK_SHIFT = 6;
+    final static int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    final static int BLOCK_WIDTH_BITS = 7;
+
+    private final ByteBun buffer;
+
+    private long[] checkpoints = new long[16];
+    private long[] packedPositions = new long[16];
+    private byte[] widths = new byte[16];
+    private int blocks = 0;
+
+    private long[] packed = new long[16];
+    private long packedLength = 0;
+
+    private final long[] pending = new long[BLOCK_SIZE];
+    private int pendingLength = 0;
+
+    private int count = 0;
+    private long end = 0;
+    private long start = -1;
+
+    private RecordIndex(@NotNull final ByteBun buffer) {
+        this.buffer = buffer;
+    }
+
+    public ByteBun buffer() {
+        return buffer;
+    }
+
+    public int recordCount() {
+        return count;
+    }
+
+    public boolean isRecordOpen() {
+        return start >= 0;
+    }
+
+    private long writerPosition() {
+        return (long)buffer.writerIndex() * 8 + buffer.writerBitOffset();
+    }
+
+    public RecordIndex beginRecord() {
+        if (start >= 0)
+            throw new IllegalStateException("Record is already open: " + count);
+        final long position = writerPosition();
+        if (position < end)
+            throw new IllegalStateException("Writer position lower than end of previous record: " + position + " < " + end);
+        start = position;
+        return this;
+    }
+
+    public RecordIndex endRecord() {
+        if (start < 0)
+            throw new IllegalStateException("Record is not open: " + count);
+        final long position = writerPosition();
+        if (position < start)
+            throw new IllegalStateException("Writer position lower than start of record: " + position + " < " + start);
+        append(start);
+        end = position;
+        start = -1;
+        return this;
+    }
+
+    // Moves the buffer reader to the first bit of the record.
+    public RecordIndex seekRecord(@NotNull final int record) {
+        buffer.readerPosition(recordPosition(record));
+        return this;
+    }
+
+    public long recordPosition(@NotNull final int record) {
+        if (record < 0 || record >= count)
+            throw new IndexOutOfBoundsException("Record out of bounds: " + record + " >= " + count);
+        final int block = record >>> BLOCK_SHIFT;
+        final int index = record & (BLOCK_SIZE - 1);
+        if (block == blocks)
+            return pending[index];
+        if (index == 0)
+            return checkpoints[block];
+        final int width = widths[block];
+        return checkpoints[block] + unpack(packedPositions[block] + (long)(index - 1) * width, width);
+    }
+
+    // Length in bits up to the start of the next record, or up to the end of the last one.
+    public long recordLength(@NotNull final int record) {
+        final long position = recordPosition(record);
+        return (record + 1 == count ? end : recordPosition(record + 1)) - position;
+    }
+
+    private void append(@NotNull final long position) {
+        pending[pendingLength++] = position;
+        count++;
+        if (pendingLength == BLOCK_SIZE)
+            packBlock();
+    }
+
+    private void packBlock() {
+        if (blocks == checkpoints.length) {
+            checkpoints = Arrays.copyOf(checkpoints, blocks * 2);
+            packedPositions = Arrays.copyOf(packedPositions, blocks * 2);
+            widths = Arrays.copyOf(widths, blocks * 2);
+        }
+        final long checkpoint = pending[0];
+        final int width = width(pending, BLOCK_SIZE);
+        checkpoints[blocks] = checkpoint;
+        packedPositions[blocks] = packedLength;
+        widths[blocks] = (byte)width;
+        blocks++;
+
+        final long required = (packedLength + (long)(BLOCK_SIZE - 1) * width + 63) >>> 6;
+        if (required > packed.length)
+            packed = Arrays.copyOf(packed, (int)Math.max(required, (long)packed.length * 2));
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            pack(pending[i] - checkpoint, width);
+        }
+        pendingLength = 0;
+    }
+
+    private static int width(@NotNull final long[] starts, @NotNull final int length) {
+        return 64 - Long.numberOfLeadingZeros(starts[length - 1] - starts[0]);
+    }
+
+    private void pack(@NotNull final long value, @NotNull final int width) {
+        if (width == 0)
+            return;
+        final int index = (int)(packedLength >>> 6);
+        final int shift = (int)(packedLength & 63);
+        packed[index] |= value << shift;
+        if (shift + width > 64)
+            packed[index + 1] |= value >>> (64 - shift);
+        packedLength += width;
+    }
+
+    private long unpack(@NotNull final long position, @NotNull final int width) {
+        if (width == 0)
+            return 0;
+        final int index = (int)(position >>> 6);
+        final int shift = (int)(position & 63);
+        long value = packed[index] >>> shift;
+        if (shift + width > 64)
+            value |= packed[index + 1] << (64 - shift);
+        return value & (-1L >>> (64 - width));
+    }
+
+    // An open record is not written, only completed records are part of the index.
+    public RecordIndex writeTo(@NotNull final ByteBun target) {
+        target.writeInt(count);
+        target.writeLong(end);
+        for (int block = 0; block < blocks; block++) {
+            final int width = widths[block];
+            target.writeLong(checkpoints[block]);
+            target.writeBits(width, BLOCK_WIDTH_BITS);
+            try (ByteBun.WriteCursor cursor = target.ensureWritable((long)(BLOCK_SIZE - 1) * width)) {
+                for (int i = 1; i < BLOCK_SIZE; i++) {
+                    cursor.putBits(unpack(packedPositions[block] + (long)(i - 1) * width, width), width);
+                }
+            }
+        }
+        if (pendingLength != 0) {
+            final long checkpoint = pending[0];
+            final int width = width(pending, pendingLength);
+            target.writeLong(checkpoint);
+            target.writeBits(width, BLOCK_WIDTH_BITS);
+            try (ByteBun.WriteCursor cursor = target.ensureWritable((long)(pendingLength - 1) * width)) {
+                for (int i = 1; i < pendingLength; i++) {
+                    cursor.putBits(pending[i] - checkpoint, width);
+                }
+            }
+        }
+        return this;
+    }
+
+    // Reads an index written by writeTo, the index seeks and keeps appending records of the buffer.
+    public static RecordIndex readFrom(@NotNull final ByteBun source, @NotNull final ByteBun buffer) {
+        final RecordIndex index = new RecordIndex(buffer);
+        final int count = source.readInt();
+        if (count < 0)
+            throw new IllegalArgumentException("Record count must be more or equal than zero: " + count);
+        final long end = source.readLong();
+
+        int remaining = count;
+        while (remaining > 0) {
+            final int length = Math.min(remaining, BLOCK_SIZE);
+            final long checkpoint = source.readLong();
+            final int width = (int)source.readBits(BLOCK_WIDTH_BITS);
+            if (width > 64)
+                throw new IllegalArgumentException("Block width must be less or equal than 64: " + width);
+            index.append(checkpoint);
+            try (ByteBun.ReadCursor cursor = source.ensureReadable((long)(length - 1) * width)) {
+                for (int i = 1; i < length; i++) {
+                    index.append(checkpoint + (width == 0 ? 0 : cursor.getBits(width)));
+                }
+            }
+            remaining -= length;
+        }
+        index.end = end;
+        return index;
+    }
+
+    public static RecordIndex create(@NotNull final ByteBun buffer) {
+        return new RecordIndex(buffer);
+    }
+
+}